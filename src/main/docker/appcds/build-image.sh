@@ -0,0 +1,50 @@
+#!/bin/sh
+# Builds the bonita:latest image with a class-data sharing archive of the classes loaded on startup.
+#
+# The archive is only used by the JVM which created it, with the same jars at the same paths, so it is created by a
+# training run of the image itself, then baked into a second build of the image which only adds the archive layer.
+# The training run starts the application against the PostgreSQL database of src/main/docker/postgresql.yml.
+#
+# Then checks that the JVM of the image maps the archive, and prints the startup time of the image without and with
+# the archive, as reported by "JVM running for", over 3 runs each.
+set -e
+
+cd "$(dirname "$0")/../../../.."
+rm -rf target/jib-appcds
+mkdir -p target/jib-appcds
+chmod 777 target/jib-appcds
+
+# Starts the image once, with the JAVA_OPTS given as first argument, and stops it after startup
+run_image() {
+    docker run --rm --network host -e JAVA_OPTS="$1" \
+        -e SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/bonita -e SPRING_LIQUIBASE_URL=jdbc:postgresql://localhost:5432/bonita \
+        bonita:latest --application.startup.exit-after-startup=true
+}
+
+startup_times() {
+    for run in 1 2 3; do
+        echo "Startup $1 the archive: $(run_image "" | grep -o 'JVM running for [0-9.]* seconds')"
+    done
+}
+
+./mvnw -ntp -Pprod,appcds verify -DskipTests jib:dockerBuild "$@"
+
+docker-compose -f src/main/docker/postgresql.yml up -d
+trap 'docker-compose -f src/main/docker/postgresql.yml down' EXIT
+until docker-compose -f src/main/docker/postgresql.yml exec -T bonita-postgresql pg_isready -U bonita; do
+    sleep 1
+done
+
+docker run --rm --network host -v "$(pwd)/target/jib-appcds:/app/cds" -e APPCDS_TRAINING=true \
+    -e SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/bonita -e SPRING_LIQUIBASE_URL=jdbc:postgresql://localhost:5432/bonita \
+    bonita:latest
+startup_times without
+
+./mvnw -ntp -Pprod,appcds jib:dockerBuild "$@"
+
+# -Xshare:on makes the JVM fail rather than silently ignore an archive it cannot map
+if ! run_image "-Xshare:on -Xlog:class+load" | grep "com.mycompany.myapp.BonitaApp source: shared objects file"; then
+    echo "The class-data sharing archive is not used by the image" >&2
+    exit 1
+fi
+startup_times with
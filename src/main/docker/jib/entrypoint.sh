@@ -1,4 +1,17 @@
 #!/bin/sh
 
+CLASSPATH=$(cat /app/jib-classpath-file)
+
+# Training run of the class-data sharing archive, see src/main/docker/appcds/build-image.sh
+if [ "${APPCDS_TRAINING}" = "true" ]; then
+    java ${JAVA_OPTS} -XX:DumpLoadedClassList=/app/cds/bonita.classlist -cp "${CLASSPATH}" "com.mycompany.myapp.BonitaApp" --application.startup.exit-after-startup=true "$@" &&
+    exec java ${JAVA_OPTS} -Xshare:dump -XX:SharedClassListFile=/app/cds/bonita.classlist -XX:SharedArchiveFile=/app/cds/bonita.jsa -cp "${CLASSPATH}"
+fi
+
+# Only baked in the images built with the appcds Maven profile, the JVM ignores the archive if it does not match
+if [ -f /app/cds/bonita.jsa ]; then
+    JAVA_OPTS="-XX:SharedArchiveFile=/app/cds/bonita.jsa -Xshare:auto ${JAVA_OPTS}"
+fi
+
 echo "The application will start in ${JHIPSTER_SLEEP}s..." && sleep ${JHIPSTER_SLEEP}
-exec java ${JAVA_OPTS} -noverify -XX:+AlwaysPreTouch -Djava.security.egd=file:/dev/./urandom -cp /app/resources/:/app/classes/:/app/libs/* "com.mycompany.myapp.BonitaApp"  "$@"
+exec java ${JAVA_OPTS} -noverify -XX:+AlwaysPreTouch -Djava.security.egd=file:/dev/./urandom -cp "${CLASSPATH}" "com.mycompany.myapp.BonitaApp"  "$@"
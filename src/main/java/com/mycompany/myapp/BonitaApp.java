@@ -13,7 +13,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.DefaultProfileUtil;
 import tech.jhipster.config.JHipsterConstants;
@@ -24,6 +26,11 @@ public class BonitaApp {
 
     private static final Logger log = LoggerFactory.getLogger(BonitaApp.class);
 
+    /**
+     * Startup steps kept until they are drained by the {@code startup} management endpoint.
+     */
+    private static final int STARTUP_STEPS_CAPACITY = 10000;
+
     private final Environment env;
 
     public BonitaApp(Environment env) {
@@ -66,8 +73,14 @@ public class BonitaApp {
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(BonitaApp.class);
         DefaultProfileUtil.addDefaultProfile(app);
-        Environment env = app.run(args).getEnvironment();
+        app.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        ConfigurableApplicationContext context = app.run(args);
+        Environment env = context.getEnvironment();
         logApplicationStartup(env);
+        if (context.getBean(ApplicationProperties.class).getStartup().isExitAfterStartup()) {
+            // Training run of the class-data sharing archive, see src/main/docker/jib/entrypoint.sh
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
     private static void logApplicationStartup(Environment env) {
@@ -0,0 +1,83 @@
+package com.mycompany.myapp.aop.lease;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases stored in the {@code jhi_scheduled_lease} table, one row per lease name.
+ * <p>
+ * Each change is committed in its own transaction, whatever the transaction of the caller. The lease dates come from
+ * the clock of the instances, which must be kept in sync.
+ */
+public class LeaseStore {
+
+    private static final String UPDATE_EXPIRED =
+        "update jhi_scheduled_lease set locked_until = ?, locked_at = ?, locked_by = ? where name = ? and locked_until <= ?";
+
+    private static final String INSERT = "insert into jhi_scheduled_lease (name, locked_until, locked_at, locked_by) values (?, ?, ?, ?)";
+
+    private static final String RELEASE = "update jhi_scheduled_lease set locked_until = ? where name = ? and locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    public LeaseStore(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return the identifier of this instance, stored in the {@code locked_by} column.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Take a lease if it is not held by another instance.
+     *
+     * @param name the lease name.
+     * @param now the current date.
+     * @param lockedUntil the date at which the lease expires.
+     * @return {@code true} if the lease was taken.
+     */
+    public boolean acquire(String name, Instant now, Instant lockedUntil) {
+        Integer updated = transactionTemplate.execute(status ->
+            jdbcTemplate.update(UPDATE_EXPIRED, Timestamp.from(lockedUntil), Timestamp.from(now), owner, name, Timestamp.from(now))
+        );
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        try {
+            // First use of the lease, or the lease is held: the primary key tells the two apart
+            transactionTemplate.execute(status ->
+                jdbcTemplate.update(INSERT, name, Timestamp.from(lockedUntil), Timestamp.from(now), owner)
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Release a lease held by this instance.
+     *
+     * @param name the lease name.
+     * @param lockedUntil the date from which other instances may take the lease.
+     */
+    public void release(String name, Instant lockedUntil) {
+        transactionTemplate.execute(status -> jdbcTemplate.update(RELEASE, Timestamp.from(lockedUntil), name, owner));
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.myapp.aop.lease;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a scheduled method on a single instance of the application at a time.
+ * <p>
+ * The instance which takes the lease of the given name in the database runs the method, the others skip their run. The
+ * lease is kept for at least {@link #holdAtLeastFor()} after the start of the run, so that an instance whose clock is a
+ * little late skips the same run rather than running the method again once it is done. The method must still be
+ * idempotent, and return {@code void}.
+ *
+ * @see ScheduledLeaseAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ScheduledLease {
+    /**
+     * Name of the lease, shared by all the instances.
+     */
+    String name();
+
+    /**
+     * ISO-8601 duration after which the lease expires if the instance holding it died without releasing it. It must be
+     * longer than the longest run of the method.
+     */
+    String holdAtMostFor() default "PT10M";
+
+    /**
+     * ISO-8601 duration from the start of the run during which the lease is kept, even if the method is done. It should
+     * be longer than the clock difference between the instances and shorter than the interval between two runs.
+     */
+    String holdAtLeastFor() default "PT0S";
+}
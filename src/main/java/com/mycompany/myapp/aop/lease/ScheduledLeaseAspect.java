@@ -0,0 +1,67 @@
+package com.mycompany.myapp.aop.lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aspect running the methods annotated with {@link ScheduledLease} only when this instance takes their lease.
+ * <p>
+ * The time the lease is held is recorded by the {@code scheduled.lease.held} timer, and the runs skipped because
+ * another instance held the lease by the {@code scheduled.lease.skipped} counter, both tagged with the lease name.
+ */
+@Aspect
+public class ScheduledLeaseAspect {
+
+    public static final String HELD_METER_NAME = "scheduled.lease.held";
+
+    public static final String SKIPPED_METER_NAME = "scheduled.lease.skipped";
+
+    public static final String NAME_DIMENSION = "name";
+
+    private final Logger log = LoggerFactory.getLogger(ScheduledLeaseAspect.class);
+
+    private final LeaseStore leaseStore;
+
+    private final MeterRegistry meterRegistry;
+
+    public ScheduledLeaseAspect(LeaseStore leaseStore, MeterRegistry meterRegistry) {
+        this.leaseStore = leaseStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Advice running the method if the lease could be taken, and releasing the lease afterwards, at the earliest
+     * {@code holdAtLeastFor} after the start of the run.
+     *
+     * @param joinPoint join point for advice.
+     * @param lease the lease of the method.
+     * @return the result of the method, {@code null} if it was skipped.
+     * @throws Throwable the exception thrown by the method.
+     */
+    @Around("@annotation(lease)")
+    public Object runWithLease(ProceedingJoinPoint joinPoint, ScheduledLease lease) throws Throwable {
+        String name = lease.name();
+        Instant start = Instant.now();
+        if (!leaseStore.acquire(name, start, start.plus(Duration.parse(lease.holdAtMostFor())))) {
+            log.debug("Skipped {}: the lease {} is held by another instance", joinPoint.getSignature().toShortString(), name);
+            Counter.builder(SKIPPED_METER_NAME).tag(NAME_DIMENSION, name).register(meterRegistry).increment();
+            return null;
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Instant end = Instant.now();
+            Instant heldUntil = start.plus(Duration.parse(lease.holdAtLeastFor()));
+            leaseStore.release(name, end.isAfter(heldUntil) ? end : heldUntil);
+            Timer.builder(HELD_METER_NAME).tag(NAME_DIMENSION, name).register(meterRegistry).record(Duration.between(start, end));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.mycompany.myapp.aop.timing;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aspect timing the execution of the service and repository Spring components and of the REST endpoints.
+ * <p>
+ * Each call is recorded by the {@code method.execution} timer, tagged with the layer, class and method called and the
+ * exception thrown if any. The timers and loggers are looked up once per method, so a call only costs two clock reads
+ * and the recording; with {@code application.method-timing.sample-rate} below 1, only a random share of the calls is
+ * timed. The timed calls slower than {@code application.method-timing.slow-threshold} are logged at WARN level.
+ */
+@Aspect
+public class MethodTimingAspect {
+
+    public static final String METER_NAME = "method.execution";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final double sampleRate;
+
+    private final long slowThresholdNanos;
+
+    private final Map<Method, MethodTimer> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry meterRegistry, ApplicationProperties.MethodTiming properties) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = properties.getSampleRate();
+        long slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.slowThresholdNanos = slowThresholdNanos > 0 ? slowThresholdNanos : Long.MAX_VALUE;
+    }
+
+    /**
+     * Pointcut that matches all repositories, services and Web REST endpoints.
+     */
+    @Pointcut(
+        "within(@org.springframework.stereotype.Repository *)" +
+        " || within(@org.springframework.stereotype.Service *)" +
+        " || within(@org.springframework.web.bind.annotation.RestController *)"
+    )
+    public void springBeanPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring beans in the application's main packages.
+     */
+    @Pointcut(
+        "within(com.mycompany.myapp.repository..*)" +
+        " || within(com.mycompany.myapp.service..*)" +
+        " || within(com.mycompany.myapp.web.rest..*)"
+    )
+    public void applicationPackagePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times the sampled calls.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable the exception thrown by the method.
+     */
+    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    public Object timeAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return joinPoint.proceed();
+        }
+        MethodTimer timer = timers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), MethodTimer::new);
+        long start = System.nanoTime();
+        Throwable exception = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e;
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, exception);
+        }
+    }
+
+    /**
+     * The timers and logger of a method, the timers of the exceptions being registered on their first occurrence.
+     */
+    private final class MethodTimer {
+
+        private final Method method;
+
+        private final String layer;
+
+        private final Logger log;
+
+        private final Timer success;
+
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private MethodTimer(Method method) {
+            this.method = method;
+            this.layer = layer(method.getDeclaringClass().getName());
+            this.log = LoggerFactory.getLogger(method.getDeclaringClass());
+            this.success = timer(NO_EXCEPTION);
+        }
+
+        private Timer timer(String exception) {
+            return Timer
+                .builder(METER_NAME)
+                .description("Execution time of the repository, service and REST controller methods")
+                .tag("layer", layer)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+        }
+
+        private void record(long nanos, Throwable exception) {
+            Timer timer = exception == null ? success : failures.computeIfAbsent(exception.getClass(), e -> timer(e.getSimpleName()));
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (nanos > slowThresholdNanos) {
+                log.warn("Slow call: {}() took {} ms", method.getName(), TimeUnit.NANOSECONDS.toMillis(nanos));
+            }
+        }
+    }
+
+    private static String layer(String className) {
+        if (className.startsWith("com.mycompany.myapp.repository.")) {
+            return "repository";
+        }
+        if (className.startsWith("com.mycompany.myapp.service.")) {
+            return "service";
+        }
+        return "web";
+    }
+}
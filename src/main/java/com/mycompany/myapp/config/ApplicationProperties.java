@@ -1,5 +1,10 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -9,4 +14,648 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * See {@link tech.jhipster.config.JHipsterProperties} for a good example.
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
-public class ApplicationProperties {}
+public class ApplicationProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Security security = new Security();
+
+    private final Search search = new Search();
+
+    private final Bulk bulk = new Bulk();
+
+    private final Mail mail = new Mail();
+
+    private final Datasource datasource = new Datasource();
+
+    private final MethodTiming methodTiming = new MethodTiming();
+
+    private final Metrics metrics = new Metrics();
+
+    private final Logging logging = new Logging();
+
+    private final Startup startup = new Startup();
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public MethodTiming getMethodTiming() {
+        return methodTiming;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public Startup getStartup() {
+        return startup;
+    }
+
+    public static class Cache {
+
+        /**
+         * Per-region overrides of the {@code jhipster.cache.ehcache} defaults, keyed by region alias.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            private Long timeToLiveSeconds;
+
+            private Long maxEntries;
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private final TokenCache tokenCache = new TokenCache();
+
+        private final LoginRateLimit loginRateLimit = new LoginRateLimit();
+
+        private final Password password = new Password();
+
+        public TokenCache getTokenCache() {
+            return tokenCache;
+        }
+
+        public Password getPassword() {
+            return password;
+        }
+
+        public LoginRateLimit getLoginRateLimit() {
+            return loginRateLimit;
+        }
+
+        public static class TokenCache {
+
+            /**
+             * Maximum number of validated JWT tokens kept in memory, 0 disables the cache.
+             */
+            private long maxEntries = 10000;
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+
+        public static class Password {
+
+            /**
+             * BCrypt cost (log2 of the number of rounds) used to hash passwords, stored hashes with another cost are
+             * re-hashed on the next successful login.
+             */
+            private int bcryptStrength = 10;
+
+            /**
+             * Whether to log the time taken to hash a password once the application is started.
+             */
+            private boolean calibrateOnStartup = true;
+
+            public int getBcryptStrength() {
+                return bcryptStrength;
+            }
+
+            public void setBcryptStrength(int bcryptStrength) {
+                this.bcryptStrength = bcryptStrength;
+            }
+
+            public boolean isCalibrateOnStartup() {
+                return calibrateOnStartup;
+            }
+
+            public void setCalibrateOnStartup(boolean calibrateOnStartup) {
+                this.calibrateOnStartup = calibrateOnStartup;
+            }
+        }
+
+        public static class LoginRateLimit {
+
+            private boolean enabled = true;
+
+            /**
+             * Maximum number of buckets kept in memory for each kind of key.
+             */
+            private long maxEntries = 100000;
+
+            private final Bucket perLogin = new Bucket(5, Duration.ofMinutes(1));
+
+            private final Bucket perIp = new Bucket(50, Duration.ofMinutes(1));
+
+            /**
+             * Addresses or CIDR ranges of the reverse proxies whose X-Forwarded-For header gives the client IP address.
+             */
+            private List<String> trustedProxies = new ArrayList<>();
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Bucket getPerLogin() {
+                return perLogin;
+            }
+
+            public Bucket getPerIp() {
+                return perIp;
+            }
+
+            public List<String> getTrustedProxies() {
+                return trustedProxies;
+            }
+
+            public void setTrustedProxies(List<String> trustedProxies) {
+                this.trustedProxies = trustedProxies;
+            }
+
+            public static class Bucket {
+
+                /**
+                 * Number of attempts allowed in a burst.
+                 */
+                private long capacity;
+
+                /**
+                 * Time needed to refill an empty bucket up to its capacity.
+                 */
+                private Duration refillPeriod;
+
+                public Bucket(long capacity, Duration refillPeriod) {
+                    this.capacity = capacity;
+                    this.refillPeriod = refillPeriod;
+                }
+
+                public long getCapacity() {
+                    return capacity;
+                }
+
+                public void setCapacity(long capacity) {
+                    this.capacity = capacity;
+                }
+
+                public Duration getRefillPeriod() {
+                    return refillPeriod;
+                }
+
+                public void setRefillPeriod(Duration refillPeriod) {
+                    this.refillPeriod = refillPeriod;
+                }
+            }
+        }
+    }
+
+    public static class Search {
+
+        /**
+         * Directory of the full-text search index, the index is kept in memory when not set.
+         */
+        private String indexDirectory;
+
+        /**
+         * Rebuild the index of this instance from the database when the application starts.
+         */
+        private boolean reindexOnStartup = true;
+
+        /**
+         * Cron expression of the periodic rebuilds of the index of this instance, which catch up with the changes made
+         * by the other instances, or "-" to disable them.
+         */
+        private String reindexCron = "-";
+
+        public String getIndexDirectory() {
+            return indexDirectory;
+        }
+
+        public void setIndexDirectory(String indexDirectory) {
+            this.indexDirectory = indexDirectory;
+        }
+
+        public boolean isReindexOnStartup() {
+            return reindexOnStartup;
+        }
+
+        public void setReindexOnStartup(boolean reindexOnStartup) {
+            this.reindexOnStartup = reindexOnStartup;
+        }
+
+        public String getReindexCron() {
+            return reindexCron;
+        }
+
+        public void setReindexCron(String reindexCron) {
+            this.reindexCron = reindexCron;
+        }
+    }
+
+    public static class Bulk {
+
+        /**
+         * Maximum number of entities accepted by a single bulk request.
+         */
+        private int maxItems = 1000;
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+    }
+
+    public static class Mail {
+
+        private final Outbox outbox = new Outbox();
+
+        public Outbox getOutbox() {
+            return outbox;
+        }
+
+        public static class Outbox {
+
+            /**
+             * Maximum number of emails sent over a single SMTP connection.
+             */
+            private int batchSize = 50;
+
+            /**
+             * Delay between two polls of the outbox.
+             */
+            private Duration pollInterval = Duration.ofSeconds(5);
+
+            /**
+             * Number of failed delivery attempts after which an email is abandoned.
+             */
+            private int maxAttempts = 10;
+
+            /**
+             * Delay before the first retry, doubled after each failed attempt.
+             */
+            private Duration initialBackoff = Duration.ofMinutes(1);
+
+            /**
+             * Maximum delay between two attempts.
+             */
+            private Duration maxBackoff = Duration.ofHours(6);
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public Duration getPollInterval() {
+                return pollInterval;
+            }
+
+            public void setPollInterval(Duration pollInterval) {
+                this.pollInterval = pollInterval;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public Duration getInitialBackoff() {
+                return initialBackoff;
+            }
+
+            public void setInitialBackoff(Duration initialBackoff) {
+                this.initialBackoff = initialBackoff;
+            }
+
+            public Duration getMaxBackoff() {
+                return maxBackoff;
+            }
+
+            public void setMaxBackoff(Duration maxBackoff) {
+                this.maxBackoff = maxBackoff;
+            }
+        }
+    }
+
+    public static class Datasource {
+
+        private final Replica replica = new Replica();
+
+        public Replica getReplica() {
+            return replica;
+        }
+
+        public static class Replica {
+
+            /**
+             * JDBC url of the replica database used by the read-only transactions, no replica is used when not set.
+             */
+            private String url;
+
+            /**
+             * Login of the replica database, the {@code spring.datasource} credentials are used when not set.
+             */
+            private String username;
+
+            private String password;
+
+            /**
+             * Maximum size of the replica pool, the size of the primary pool is used when not set.
+             */
+            private Integer maximumPoolSize;
+
+            /**
+             * Query returning the replication lag of the replica in seconds.
+             */
+            private String lagQuery =
+                "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0" +
+                " else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+            /**
+             * Replication lag above which the read-only transactions go to the primary database.
+             */
+            private Duration maxLag = Duration.ofSeconds(10);
+
+            /**
+             * Delay between two checks of the replication lag.
+             */
+            private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+
+            public String getLagQuery() {
+                return lagQuery;
+            }
+
+            public void setLagQuery(String lagQuery) {
+                this.lagQuery = lagQuery;
+            }
+
+            public Duration getMaxLag() {
+                return maxLag;
+            }
+
+            public void setMaxLag(Duration maxLag) {
+                this.maxLag = maxLag;
+            }
+
+            public Duration getLagCheckInterval() {
+                return lagCheckInterval;
+            }
+
+            public void setLagCheckInterval(Duration lagCheckInterval) {
+                this.lagCheckInterval = lagCheckInterval;
+            }
+        }
+    }
+
+    public static class MethodTiming {
+
+        private boolean enabled = true;
+
+        /**
+         * Share of the calls which are timed, between 0 and 1.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * Timed calls taking longer are logged, not logged when 0.
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        public void setSlowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+    }
+
+    public static class Metrics {
+
+        /**
+         * Distinct URIs of the HTTP server request meters, the requests to other URIs are recorded under the OTHER URI.
+         */
+        private int maxUriTags = 50;
+
+        /**
+         * SLO buckets of the API request timers.
+         */
+        private List<Duration> apiSlo = new ArrayList<>();
+
+        /**
+         * Name prefixes of the meters which are not registered.
+         */
+        private List<String> deniedMeters = new ArrayList<>();
+
+        public int getMaxUriTags() {
+            return maxUriTags;
+        }
+
+        public void setMaxUriTags(int maxUriTags) {
+            this.maxUriTags = maxUriTags;
+        }
+
+        public List<Duration> getApiSlo() {
+            return apiSlo;
+        }
+
+        public void setApiSlo(List<Duration> apiSlo) {
+            this.apiSlo = apiSlo;
+        }
+
+        public List<String> getDeniedMeters() {
+            return deniedMeters;
+        }
+
+        public void setDeniedMeters(List<String> deniedMeters) {
+            this.deniedMeters = deniedMeters;
+        }
+    }
+
+    public static class Logging {
+
+        private final Async async = new Async();
+
+        public Async getAsync() {
+            return async;
+        }
+
+        public static class Async {
+
+            /**
+             * Whether the appenders of the root logger are wrapped in an asynchronous appender.
+             */
+            private boolean enabled = true;
+
+            private int queueSize = 1024;
+
+            /**
+             * Free slots of the queue kept for the WARN and ERROR events, the DEBUG and INFO events are dropped below.
+             */
+            private int discardingThreshold = 256;
+
+            /**
+             * Time given to the queued events to be written on shutdown.
+             */
+            private Duration maxFlushTime = Duration.ofSeconds(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getQueueSize() {
+                return queueSize;
+            }
+
+            public void setQueueSize(int queueSize) {
+                this.queueSize = queueSize;
+            }
+
+            public int getDiscardingThreshold() {
+                return discardingThreshold;
+            }
+
+            public void setDiscardingThreshold(int discardingThreshold) {
+                this.discardingThreshold = discardingThreshold;
+            }
+
+            public Duration getMaxFlushTime() {
+                return maxFlushTime;
+            }
+
+            public void setMaxFlushTime(Duration maxFlushTime) {
+                this.maxFlushTime = maxFlushTime;
+            }
+        }
+    }
+
+    public static class Startup {
+
+        /**
+         * Whether the application stops once started, for the training run of the class-data sharing archive.
+         */
+        private boolean exitAfterStartup;
+
+        public boolean isExitAfterStartup() {
+            return exitAfterStartup;
+        }
+
+        public void setExitAfterStartup(boolean exitAfterStartup) {
+            this.exitAfterStartup = exitAfterStartup;
+        }
+    }
+}
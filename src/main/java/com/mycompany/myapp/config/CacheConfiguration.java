@@ -0,0 +1,74 @@
+package com.mycompany.myapp.config;
+
+import java.time.Duration;
+import org.ehcache.config.builders.*;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Configures the JCache (Ehcache) caches, used both by Spring's {@code @Cacheable} and as the Hibernate second-level cache.
+ * <p>
+ * Every cache uses the {@code jhipster.cache.ehcache} time-to-live and size, unless its region alias is overridden in
+ * {@code application.cache.regions}. Statistics are enabled so that the caches are exposed as Micrometer meters.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+
+    private final ApplicationProperties.Cache cacheProperties;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_LOGIN_CACHE, "users-by-login");
+            createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_EMAIL_CACHE, "users-by-email");
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName(), "user");
+            createCache(cm, com.mycompany.myapp.domain.Authority.class.getName(), "authority");
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName() + ".authorities", "user-authorities");
+            createCache(cm, com.mycompany.myapp.domain.Recipes.class.getName(), "recipes");
+            // jhipster-needle-ehcache-add-entry
+        };
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, String regionAlias) {
+        javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        } else {
+            cm.createCache(cacheName, jcacheConfiguration(regionAlias));
+        }
+        cm.enableStatistics(cacheName, true);
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String regionAlias) {
+        ApplicationProperties.Cache.Region region = cacheProperties
+            .getRegions()
+            .getOrDefault(regionAlias, new ApplicationProperties.Cache.Region());
+        long timeToLiveSeconds = region.getTimeToLiveSeconds() != null ? region.getTimeToLiveSeconds() : ehcache.getTimeToLiveSeconds();
+        long maxEntries = region.getMaxEntries() != null ? region.getMaxEntries() : ehcache.getMaxEntries();
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)))
+                .build()
+        );
+    }
+}
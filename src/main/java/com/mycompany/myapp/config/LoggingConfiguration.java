@@ -2,13 +2,24 @@ package com.mycompany.myapp.config;
 
 import static tech.jhipster.config.logging.LoggingUtils.*;
 
+import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import net.logstash.logback.appender.AsyncDisruptorAppender;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import tech.jhipster.config.JHipsterProperties;
 
@@ -22,6 +33,7 @@ public class LoggingConfiguration {
         @Value("${spring.application.name}") String appName,
         @Value("${server.port}") String serverPort,
         JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
         ObjectMapper mapper
     ) throws JsonProcessingException {
         LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
@@ -43,5 +55,66 @@ public class LoggingConfiguration {
         if (loggingProperties.isUseJsonFormat() || logstashProperties.isEnabled()) {
             addContextListener(context, customFields, loggingProperties);
         }
+        if (applicationProperties.getLogging().getAsync().isEnabled()) {
+            addAsyncAppenders(context, applicationProperties.getLogging().getAsync());
+        }
+    }
+
+    /**
+     * Moves the synchronous appenders of the root logger behind a {@link MeteredAsyncAppender}, so that a slow appender
+     * does not slow down the logging threads. The Logstash appender has its own queue and is left as is.
+     */
+    private static void addAsyncAppenders(LoggerContext context, ApplicationProperties.Logging.Async properties) {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        rootLogger.iteratorForAppenders().forEachRemaining(appenders::add);
+        for (Appender<ILoggingEvent> appender : appenders) {
+            if (appender instanceof AsyncAppenderBase || appender instanceof AsyncDisruptorAppender) {
+                continue;
+            }
+            MeteredAsyncAppender asyncAppender = new MeteredAsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_" + appender.getName());
+            asyncAppender.setQueueSize(properties.getQueueSize());
+            asyncAppender.setDiscardingThreshold(properties.getDiscardingThreshold());
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.setMaxFlushTime((int) properties.getMaxFlushTime().toMillis());
+            asyncAppender.addAppender(appender);
+            asyncAppender.start();
+            // Detached first so that no event is written twice, by the appender and by the asynchronous appender
+            rootLogger.detachAppender(appender);
+            rootLogger.addAppender(asyncAppender);
+        }
+    }
+
+    /**
+     * Publishes the depth of the queue and the dropped events of each asynchronous appender.
+     */
+    @Bean
+    public MeterBinder asyncAppenderMeterBinder() {
+        return registry -> {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            List<MeteredAsyncAppender> appenders = new ArrayList<>();
+            context
+                .getLogger(Logger.ROOT_LOGGER_NAME)
+                .iteratorForAppenders()
+                .forEachRemaining(appender -> {
+                    if (appender instanceof MeteredAsyncAppender) {
+                        appenders.add((MeteredAsyncAppender) appender);
+                    }
+                });
+            for (MeteredAsyncAppender appender : appenders) {
+                Gauge
+                    .builder("logback.async.queue.depth", appender, AsyncAppenderBase::getNumberOfElementsInQueue)
+                    .description("Events waiting in the queue of the asynchronous appender")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+                FunctionCounter
+                    .builder("logback.async.dropped", appender, MeteredAsyncAppender::getDroppedEvents)
+                    .description("DEBUG and INFO events dropped because the queue of the asynchronous appender was full")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            }
+        };
     }
 }
@@ -0,0 +1,33 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} counting the events it drops.
+ * <p>
+ * Once fewer than {@code discardingThreshold} slots are free in the queue, the DEBUG and INFO events are dropped so
+ * that the logging threads never wait for a slow appender; the remaining slots are kept for the WARN and ERROR events,
+ * which wait for a free slot rather than being lost.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted() && isDiscardable(event) && getRemainingCapacity() < getDiscardingThreshold()) {
+            droppedEvents.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /**
+     * @return the number of events dropped since the appender was created.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+}
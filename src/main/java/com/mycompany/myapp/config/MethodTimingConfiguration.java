@@ -0,0 +1,19 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.aop.timing.MethodTimingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+@Configuration
+@EnableAspectJAutoProxy
+@ConditionalOnProperty(prefix = "application.method-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingConfiguration {
+
+    @Bean
+    public MethodTimingAspect methodTimingAspect(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        return new MethodTimingAspect(meterRegistry, applicationProperties.getMethodTiming());
+    }
+}
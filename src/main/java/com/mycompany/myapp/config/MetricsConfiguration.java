@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Keeps the number of meters, and so the memory and scrape cost of the metrics, bounded.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    static final String URI_TAG = "uri";
+
+    static final String OTHER_URI = "OTHER";
+
+    private final ApplicationProperties.Metrics properties;
+
+    public MetricsConfiguration(ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getMetrics();
+    }
+
+    /**
+     * Records the requests to new URIs under the {@code OTHER} URI once {@code application.metrics.max-uri-tags} URIs
+     * have been seen, rather than registering new meters. This runs before the filter of
+     * {@code management.metrics.web.server.max-uri-tags}, which denies the meters of the URIs over its own limit.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public MeterFilter uriTagCardinalityMeterFilter() {
+        return new UriTagCardinalityMeterFilter(properties.getMaxUriTags());
+    }
+
+    /**
+     * Publishes the SLO buckets of {@code application.metrics.api-slo} for the API request timers.
+     */
+    @Bean
+    public MeterFilter apiSloMeterFilter() {
+        double[] slo = properties.getApiSlo().stream().mapToDouble(Duration::toNanos).toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String uri = id.getTag(URI_TAG);
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || uri == null || !uri.startsWith("/api/")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().serviceLevelObjectives(slo).build().merge(config);
+            }
+        };
+    }
+
+    /**
+     * Denies the meters whose name starts with one of {@code application.metrics.denied-meters}.
+     */
+    @Bean
+    public MeterFilter deniedMetersMeterFilter() {
+        List<String> prefixes = properties.getDeniedMeters();
+        return MeterFilter.deny(id -> prefixes.stream().anyMatch(id.getName()::startsWith));
+    }
+
+    static class UriTagCardinalityMeterFilter implements MeterFilter {
+
+        private final int maxUriTags;
+
+        private final Set<String> uris = ConcurrentHashMap.newKeySet();
+
+        UriTagCardinalityMeterFilter(int maxUriTags) {
+            this.maxUriTags = maxUriTags;
+        }
+
+        @Override
+        public Meter.Id map(Meter.Id id) {
+            if (!HTTP_SERVER_REQUESTS.equals(id.getName())) {
+                return id;
+            }
+            String uri = id.getTag(URI_TAG);
+            if (uri == null || uris.contains(uri)) {
+                return id;
+            }
+            if (uris.size() < maxUriTags) {
+                uris.add(uri);
+                return id;
+            }
+            return id.withTag(Tag.of(URI_TAG, OTHER_URI));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Configures a replica database for the read-only transactions, when {@code application.datasource.replica.url} is set.
+ * <p>
+ * The primary pool is configured by the {@code spring.datasource} properties as usual, and the replica pool is a copy of
+ * it with the replica url and credentials. Each pool has its own Hikari metrics, tagged with its pool name.
+ * <p>
+ * The entities read on the replica are not put in the Hibernate second-level cache, where they could outlive the
+ * eviction following their update on the primary.
+ */
+@Configuration
+@ConditionalOnProperty("application.datasource.replica.url")
+public class ReplicaDataSourceConfiguration {
+
+    public static final String REPLICA_LAG_METER_NAME = "datasource.replica.lag";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(HikariDataSource primaryDataSource, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(replicaDataSource);
+        replicaDataSource.setPoolName(primaryDataSource.getPoolName() + "-replica");
+        replicaDataSource.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            replicaDataSource.setUsername(replica.getUsername());
+            replicaDataSource.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        return replicaDataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        HikariDataSource replicaDataSource,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        ObjectProvider<EntityManagerFactory> entityManagerFactory
+    ) {
+        ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            primaryDataSource,
+            replicaDataSource,
+            replica.getLagQuery(),
+            replica.getMaxLag()
+        );
+        routingDataSource.setReplicaTransactionCallback(() -> {
+            Object holder = TransactionSynchronizationManager.getResource(entityManagerFactory.getObject());
+            if (holder instanceof EntityManagerHolder) {
+                ((EntityManagerHolder) holder).getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        });
+        Gauge
+            .builder(REPLICA_LAG_METER_NAME, routingDataSource, ReplicaRoutingDataSource::getLagSeconds)
+            .baseUnit("seconds")
+            .description("Replication lag of the replica database")
+            .register(meterRegistry);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
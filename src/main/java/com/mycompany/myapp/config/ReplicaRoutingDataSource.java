@@ -0,0 +1,144 @@
+package com.mycompany.myapp.config;
+
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource sending the read-only transactions to a replica database, and everything else to the primary database.
+ * <p>
+ * The replica is only used while its replication lag, checked every {@code application.datasource.replica.lag-check-interval},
+ * is below {@code application.datasource.replica.max-lag}; until the first check, or when the check fails, the read-only
+ * transactions go to the primary database as well.
+ * <p>
+ * The transaction must be read-only when its connection is taken, so this DataSource is used behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers taking the connection until
+ * the first statement of the transaction.
+ * <p>
+ * Data read on the replica may be older than the last write on the primary, so it must not be cached beyond its
+ * transaction: {@link #isCurrentTransactionOnReplica()} tells whether the current transaction reads from the replica,
+ * and the replica transaction callback runs once for each transaction sent to the replica.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+
+    private static final Object REPLICA_TRANSACTION = new Object();
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final String lagQuery;
+
+    private final Duration maxLag;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    private volatile boolean replicaUsable;
+
+    private Runnable replicaTransactionCallback = () -> {};
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * @return whether the current transaction reads from the replica database.
+     */
+    public static boolean isCurrentTransactionOnReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_TRANSACTION);
+    }
+
+    /**
+     * Set the callback run in each transaction sent to the replica, when the transaction takes its connection.
+     *
+     * @param replicaTransactionCallback the callback.
+     */
+    public void setReplicaTransactionCallback(Runnable replicaTransactionCallback) {
+        this.replicaTransactionCallback = replicaTransactionCallback;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!replicaUsable || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !isCurrentTransactionOnReplica()) {
+            TransactionSynchronizationManager.bindResource(REPLICA_TRANSACTION, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new ReplicaTransactionSynchronization());
+            replicaTransactionCallback.run();
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Check the replication lag of the replica, and stop or resume sending read-only transactions to it.
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicaLag() {
+        boolean usable;
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            lagSeconds = lag == null ? Double.NaN : lag.doubleValue();
+            usable = lag != null && lag.doubleValue() * 1000 <= maxLag.toMillis();
+        } catch (RuntimeException e) {
+            log.debug("Could not check the replication lag of the replica", e);
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+        if (usable != replicaUsable) {
+            log.warn("Read-only transactions now go to the {} database, replication lag: {}s", usable ? "replica" : "primary", lagSeconds);
+            replicaUsable = usable;
+        }
+    }
+
+    /**
+     * @return the replication lag of the replica in seconds at the last check, {@code NaN} if it is unknown.
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * @return whether the read-only transactions go to the replica.
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Keeps the current transaction marked as sent to the replica until it completes, and while it is suspended.
+     */
+    private static class ReplicaTransactionSynchronization implements TransactionSynchronization {
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(REPLICA_TRANSACTION);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(REPLICA_TRANSACTION, Boolean.TRUE);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_TRANSACTION);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.aop.lease.LeaseStore;
+import com.mycompany.myapp.aop.lease.ScheduledLeaseAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableAspectJAutoProxy
+public class ScheduledLeaseConfiguration {
+
+    @Bean
+    public LeaseStore leaseStore(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        return new LeaseStore(dataSource, transactionManager);
+    }
+
+    @Bean
+    public ScheduledLeaseAspect scheduledLeaseAspect(LeaseStore leaseStore, MeterRegistry meterRegistry) {
+        return new ScheduledLeaseAspect(leaseStore, meterRegistry);
+    }
+}
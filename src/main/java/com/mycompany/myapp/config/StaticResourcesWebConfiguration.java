@@ -7,6 +7,7 @@ import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import tech.jhipster.config.JHipsterConstants;
 import tech.jhipster.config.JHipsterProperties;
 
@@ -45,8 +46,16 @@ public class StaticResourcesWebConfiguration implements WebMvcConfigurer {
         return registry.addResourceHandler(RESOURCE_PATHS);
     }
 
+    /**
+     * Serve the {@code .br} and {@code .gz} variants of the static resources, emitted by the webpack build, to the
+     * clients accepting these encodings: they are compressed once at build time instead of on each response.
+     */
     protected void initializeResourceHandler(ResourceHandlerRegistration resourceHandlerRegistration) {
-        resourceHandlerRegistration.addResourceLocations(RESOURCE_LOCATIONS).setCacheControl(getCacheControl());
+        resourceHandlerRegistration
+            .addResourceLocations(RESOURCE_LOCATIONS)
+            .setCacheControl(getCacheControl())
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver());
     }
 
     protected CacheControl getCacheControl() {
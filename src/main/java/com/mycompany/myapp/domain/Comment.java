@@ -1,6 +1,7 @@
 package com.mycompany.myapp.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mycompany.myapp.repository.search.SearchIndexListener;
 import java.io.Serializable;
 import javax.persistence.*;
 import javax.validation.constraints.*;
@@ -10,14 +11,15 @@ import org.hibernate.annotations.Type;
  * A Comment.
  */
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "comment")
 public class Comment implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "commentSequenceGenerator")
+    @SequenceGenerator(name = "commentSequenceGenerator", sequenceName = "comment_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -30,6 +32,13 @@ public class Comment implements Serializable {
     @JsonIgnoreProperties(value = { "user" }, allowSetters = true)
     private Recipes recipes;
 
+    /**
+     * Incremented on each update, so that the ETag of the {@link Comment} changes with its content.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -71,6 +80,19 @@ public class Comment implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Comment version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -95,6 +117,7 @@ public class Comment implements Serializable {
     public String toString() {
         return "Comment{" +
             "id=" + getId() +
+            ", version=" + getVersion() +
             ", commentContent='" + getCommentContent() + "'" +
             "}";
     }
@@ -0,0 +1,202 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.*;
+import javax.validation.constraints.*;
+import org.hibernate.annotations.Type;
+
+/**
+ * An email waiting in the outbox to be delivered.
+ * <p>
+ * Written in the transaction of the change the email is about, and deleted once delivered.
+ */
+@Entity
+@Table(name = "jhi_mail_outbox")
+public class OutboxMail implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outboxMailSequenceGenerator")
+    @SequenceGenerator(name = "outboxMailSequenceGenerator", sequenceName = "jhi_mail_outbox_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Size(max = 254)
+    @Column(name = "recipient", length = 254, nullable = false)
+    private String recipient;
+
+    @NotNull
+    @Size(max = 255)
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @NotNull
+    @Lob
+    @Type(type = "org.hibernate.type.TextType")
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "multipart", nullable = false)
+    private boolean multipart;
+
+    @Column(name = "html", nullable = false)
+    private boolean html;
+
+    @NotNull
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate = Instant.now();
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * Date of the next delivery attempt, {@code null} once the delivery is abandoned.
+     */
+    @Column(name = "next_attempt_date")
+    private Instant nextAttemptDate = createdDate;
+
+    @Size(max = 255)
+    @Column(name = "last_error")
+    private String lastError;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRecipient() {
+        return this.recipient;
+    }
+
+    public OutboxMail recipient(String recipient) {
+        this.setRecipient(recipient);
+        return this;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return this.subject;
+    }
+
+    public OutboxMail subject(String subject) {
+        this.setSubject(subject);
+        return this;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getContent() {
+        return this.content;
+    }
+
+    public OutboxMail content(String content) {
+        this.setContent(content);
+        return this;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public boolean isMultipart() {
+        return this.multipart;
+    }
+
+    public OutboxMail multipart(boolean multipart) {
+        this.setMultipart(multipart);
+        return this;
+    }
+
+    public void setMultipart(boolean multipart) {
+        this.multipart = multipart;
+    }
+
+    public boolean isHtml() {
+        return this.html;
+    }
+
+    public OutboxMail html(boolean html) {
+        this.setHtml(html);
+        return this;
+    }
+
+    public void setHtml(boolean html) {
+        this.html = html;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptDate() {
+        return this.nextAttemptDate;
+    }
+
+    public void setNextAttemptDate(Instant nextAttemptDate) {
+        this.nextAttemptDate = nextAttemptDate;
+    }
+
+    public String getLastError() {
+        return this.lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OutboxMail)) {
+            return false;
+        }
+        return id != null && id.equals(((OutboxMail) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OutboxMail{" +
+            "id=" + getId() +
+            ", recipient='" + getRecipient() + "'" +
+            ", subject='" + getSubject() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            ", attempts=" + getAttempts() +
+            ", nextAttemptDate='" + getNextAttemptDate() + "'" +
+            "}";
+    }
+}
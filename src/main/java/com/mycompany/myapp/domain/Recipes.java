@@ -1,21 +1,26 @@
 package com.mycompany.myapp.domain;
 
+import com.mycompany.myapp.repository.search.SearchIndexListener;
 import java.io.Serializable;
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Recipes.
  */
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "recipes")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Recipes implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipesSequenceGenerator")
+    @SequenceGenerator(name = "recipesSequenceGenerator", sequenceName = "recipes_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -26,6 +31,13 @@ public class Recipes implements Serializable {
     @ManyToOne
     private User user;
 
+    /**
+     * Incremented on each update, so that the ETag of the {@link Recipes} changes with its content.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -67,6 +79,19 @@ public class Recipes implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Recipes version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -91,6 +116,7 @@ public class Recipes implements Serializable {
     public String toString() {
         return "Recipes{" +
             "id=" + getId() +
+            ", version=" + getVersion() +
             ", recipesName='" + getRecipesName() + "'" +
             "}";
     }
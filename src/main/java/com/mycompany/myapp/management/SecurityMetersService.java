@@ -13,16 +13,36 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION = "Indicates lookups of the validated tokens cache.";
+    public static final String TOKEN_CACHE_METER_BASE_UNIT = "lookups";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String REJECTED_LOGINS_METER_NAME = "security.authentication.rejected-logins";
+    public static final String REJECTED_LOGINS_METER_DESCRIPTION = "Indicates login attempts rejected by the rate limiter.";
+    public static final String REJECTED_LOGINS_METER_BASE_UNIT = "attempts";
+    public static final String REJECTED_LOGINS_METER_LIMIT_DIMENSION = "limit";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Counter loginRejectedPerLoginCounter;
+    private final Counter loginRejectedPerIpCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+
+        this.loginRejectedPerLoginCounter = rejectedLoginsCounterForLimitBuilder("login").register(registry);
+        this.loginRejectedPerIpCounter = rejectedLoginsCounterForLimitBuilder("ip").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -33,6 +53,22 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter
+            .builder(TOKEN_CACHE_METER_NAME)
+            .baseUnit(TOKEN_CACHE_METER_BASE_UNIT)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder rejectedLoginsCounterForLimitBuilder(String limit) {
+        return Counter
+            .builder(REJECTED_LOGINS_METER_NAME)
+            .baseUnit(REJECTED_LOGINS_METER_BASE_UNIT)
+            .description(REJECTED_LOGINS_METER_DESCRIPTION)
+            .tag(REJECTED_LOGINS_METER_LIMIT_DIMENSION, limit);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -48,4 +84,20 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackLoginRejectedPerLogin() {
+        this.loginRejectedPerLoginCounter.increment();
+    }
+
+    public void trackLoginRejectedPerIp() {
+        this.loginRejectedPerIpCounter.increment();
+    }
 }
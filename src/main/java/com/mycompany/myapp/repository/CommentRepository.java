@@ -1,12 +1,78 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.service.dto.CommentDTO;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data SQL repository for the Comment entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {}
+public interface CommentRepository extends JpaRepository<Comment, Long>, VersionedUpdateRepository<Comment> {
+    /**
+     * Selects the {@link CommentDTO} of the comments, with their recipes and its author outer joined.
+     */
+    String SELECT_DTOS =
+        "select new com.mycompany.myapp.service.dto.CommentDTO(comment.id, comment.commentContent, comment.version," +
+        " recipes.id, recipes.recipesName, recipes.version, user.id, user.login)" +
+        " from Comment comment left join comment.recipes recipes left join recipes.user user";
+
+    @Query(SELECT_DTOS + " where comment.id = :id")
+    Optional<CommentDTO> findDtoById(@Param("id") Long id);
+
+    @Query("select comment.version from Comment comment where comment.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Selects the {@link VersionFingerprint} of the comments, covering their recipes and its author embedded in the
+     * {@link CommentDTO}.
+     */
+    String SELECT_VERSION_FINGERPRINT =
+        "select count(comment) as count, sum(comment.version + coalesce(recipes.version, 0)) as versionSum," +
+        " max(comment.id) as maxId, max(user.lastModifiedDate) as lastModifiedDate" +
+        " from Comment comment left join comment.recipes recipes left join recipes.user user";
+
+    @Query(
+        "select comment.version as version, recipes.version as parentVersion" +
+        " from Comment comment left join comment.recipes recipes where comment.id = :id"
+    )
+    Optional<EntityVersion> findEntityVersionById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_VERSION_FINGERPRINT)
+    VersionFingerprint findVersionFingerprint();
+
+    @Query(SELECT_VERSION_FINGERPRINT + " where recipes.id = :recipesId")
+    VersionFingerprint findVersionFingerprintByRecipesId(@Param("recipesId") Long recipesId);
+
+    Slice<Comment> findAllBy(Pageable pageable);
+
+    Slice<Comment> findAllByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Reads a chunk of {@code GET /comments}, in its own read-only transaction as the stream runs outside of any.
+     */
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTOS)
+    Slice<CommentDTO> findAllDtosBy(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTOS + " where comment.id > :id")
+    Slice<CommentDTO> findAllDtosByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTOS + " where comment.recipes.id = :recipesId")
+    Slice<CommentDTO> findAllDtosByRecipesId(@Param("recipesId") Long recipesId, Pageable pageable);
+
+    @Query(SELECT_DTOS + " where comment.recipes.id = :recipesId and comment.id > :id")
+    Slice<CommentDTO> findAllDtosByRecipesIdAndIdGreaterThan(@Param("recipesId") Long recipesId, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTOS + " where comment.recipes.id = :recipesId and comment.id < :id")
+    Slice<CommentDTO> findAllDtosByRecipesIdAndIdLessThan(@Param("recipesId") Long recipesId, @Param("id") Long id, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.repository;
+
+import java.time.Instant;
+
+/**
+ * Version of an entity, with the version of the parent entity and the last modified date of the user embedded in its
+ * representation, which change its ETag too.
+ * <p>
+ * The users have no version, and only ever get a later last modified date when they are updated.
+ */
+public interface EntityVersion {
+    Long getVersion();
+
+    /**
+     * @return the version of the embedded parent entity, {@code null} if there is none.
+     */
+    Long getParentVersion();
+
+    /**
+     * @return the last modified date of the embedded user, {@code null} if there is none.
+     */
+    Instant getLastModifiedDate();
+}
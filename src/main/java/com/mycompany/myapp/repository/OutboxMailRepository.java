@@ -0,0 +1,25 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.OutboxMail;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Spring Data JPA repository for the {@link OutboxMail} entity.
+ */
+@Repository
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, Long> {
+    /**
+     * Not read-only, so that the emails are read from the primary database, where the sent emails are deleted.
+     */
+    @Transactional
+    List<OutboxMail> findAllByNextAttemptDateLessThanEqualOrderByIdAsc(Instant date, Pageable pageable);
+
+    long countByNextAttemptDateIsNotNull();
+
+    long countByNextAttemptDateIsNull();
+}
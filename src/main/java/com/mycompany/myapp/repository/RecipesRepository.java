@@ -1,8 +1,14 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.service.dto.RecipeSummaryDTO;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -10,7 +16,50 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface RecipesRepository extends JpaRepository<Recipes, Long> {
+public interface RecipesRepository extends JpaRepository<Recipes, Long>, VersionedUpdateRepository<Recipes> {
+    /**
+     * Selects the {@link RecipeSummaryDTO} of the recipes, the author being outer joined under the {@code user} alias so
+     * that a sort on {@code user.login} keeps the recipes without author.
+     */
+    String SELECT_SUMMARIES =
+        "select new com.mycompany.myapp.service.dto.RecipeSummaryDTO(recipes.id, recipes.recipesName, recipes.version," +
+        " user.id, user.login)" +
+        " from Recipes recipes left join recipes.user user";
+
     @Query("select recipes from Recipes recipes where recipes.user.login = ?#{principal.username}")
     List<Recipes> findByUserIsCurrentUser();
+
+    @Query(SELECT_SUMMARIES + " where recipes.id = :id")
+    Optional<RecipeSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query("select recipes.version from Recipes recipes where recipes.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(
+        "select recipes.version as version, user.lastModifiedDate as lastModifiedDate" +
+        " from Recipes recipes left join recipes.user user where recipes.id = :id"
+    )
+    Optional<EntityVersion> findEntityVersionById(@Param("id") Long id);
+
+    @Query(
+        "select count(recipes) as count, sum(recipes.version) as versionSum, max(recipes.id) as maxId," +
+        " max(user.lastModifiedDate) as lastModifiedDate from Recipes recipes left join recipes.user user"
+    )
+    VersionFingerprint findVersionFingerprint();
+
+    Slice<Recipes> findAllBy(Pageable pageable);
+
+    Slice<Recipes> findAllByIdGreaterThan(Long id, Pageable pageable);
+
+    @Query(value = SELECT_SUMMARIES, countQuery = "select count(recipes) from Recipes recipes")
+    Page<RecipeSummaryDTO> findAllSummaries(Pageable pageable);
+
+    @Query(SELECT_SUMMARIES)
+    Slice<RecipeSummaryDTO> findAllSummariesBy(Pageable pageable);
+
+    @Query(SELECT_SUMMARIES + " where recipes.id > :id")
+    Slice<RecipeSummaryDTO> findAllSummariesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARIES + " where recipes.id < :id")
+    Slice<RecipeSummaryDTO> findAllSummariesByIdLessThan(@Param("id") Long id, Pageable pageable);
 }
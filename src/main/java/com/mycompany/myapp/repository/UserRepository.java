@@ -2,23 +2,72 @@ package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.User;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Data JPA repository for the {@link User} entity.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String USERS_BY_LOGIN_CACHE = "usersByLogin";
+
+    String USERS_BY_EMAIL_CACHE = "usersByEmail";
+
+    /**
+     * Keeps the users read on the replica database, which may lag behind the evictions of {@code UserService}, out of
+     * the caches.
+     */
+    String READ_ON_REPLICA = "T(com.mycompany.myapp.config.ReplicaRoutingDataSource).isCurrentTransactionOnReplica()";
+
     Optional<User> findOneByActivationKey(String activationKey);
 
     List<User> findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant dateTime);
 
+    /**
+     * Get a keyset page of the not activated users created before a date, in the order of the
+     * {@code (activated, created_date, id)} index.
+     *
+     * @param dateTime the creation date the users were created before.
+     * @param afterCreatedDate the creation date of the last user of the previous page.
+     * @param afterId the id of the last user of the previous page.
+     * @param pageable the page size.
+     * @return the users created after the last user of the previous page.
+     */
+    @Query(
+        "select u from User u where u.activated = false and u.activationKey is not null and u.createdDate < :dateTime" +
+        " and (u.createdDate > :afterCreatedDate or (u.createdDate = :afterCreatedDate and u.id > :afterId))" +
+        " order by u.createdDate, u.id"
+    )
+    List<User> findNotActivatedUsersCreatedBefore(
+        @Param("dateTime") Instant dateTime,
+        @Param("afterCreatedDate") Instant afterCreatedDate,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Delete the users which are still not activated, along with their authorities, in a single transaction.
+     *
+     * @param ids the ids of the users.
+     * @return the number of deleted users.
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from User u where u.id in :ids and u.activated = false")
+    int deleteNotActivatedUsersByIdIn(@Param("ids") Collection<Long> ids);
+
     Optional<User> findOneByResetKey(String resetKey);
 
     Optional<User> findOneByEmailIgnoreCase(String email);
@@ -26,9 +75,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneByLogin(String login);
 
     @EntityGraph(attributePaths = "authorities")
+    @Cacheable(cacheNames = USERS_BY_LOGIN_CACHE, unless = READ_ON_REPLICA)
     Optional<User> findOneWithAuthoritiesByLogin(String login);
 
     @EntityGraph(attributePaths = "authorities")
+    @Cacheable(cacheNames = USERS_BY_EMAIL_CACHE, unless = READ_ON_REPLICA)
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
@@ -0,0 +1,24 @@
+package com.mycompany.myapp.repository;
+
+import java.time.Instant;
+
+/**
+ * Aggregate of the ids and versions of a set of entities, which changes whenever an entity of the set is created,
+ * updated or deleted, or a parent entity or user embedded in their representation is updated.
+ * <p>
+ * Updates increment the sum of the versions, which includes the versions of the embedded parent entities, and as ids
+ * are never reused, an insert either changes the count or, when it replaces a deleted entity, the highest id. The users
+ * have no version, but an updated user gets the latest last modified date.
+ */
+public interface VersionFingerprint {
+    long getCount();
+
+    Long getVersionSum();
+
+    Long getMaxId();
+
+    /**
+     * @return the latest last modified date of the embedded users, {@code null} if there are none.
+     */
+    Instant getLastModifiedDate();
+}
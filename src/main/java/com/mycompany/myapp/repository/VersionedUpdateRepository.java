@@ -0,0 +1,20 @@
+package com.mycompany.myapp.repository;
+
+/**
+ * Repository fragment updating a versioned entity with a single {@code UPDATE} statement.
+ *
+ * @param <T> the entity type.
+ */
+public interface VersionedUpdateRepository<T> {
+    /**
+     * Overwrite the state of an entity, without reading it first.
+     * <p>
+     * The entity is re-attached as is and flushed, with an {@code UPDATE ... WHERE id = ? AND version = ?} statement.
+     * Unlike a {@code save}, which merges the entity and so selects it first, no other statement is issued.
+     *
+     * @param entity the new state of the entity, with the id and the version it is expected to have.
+     * @return the updated entity, with its incremented version.
+     * @throws org.springframework.dao.OptimisticLockingFailureException if no entity has this id and version.
+     */
+    T update(T entity);
+}
@@ -0,0 +1,33 @@
+package com.mycompany.myapp.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link VersionedUpdateRepository}, using {@link Session#update(Object)} to re-attach the entity
+ * without selecting it, which keeps the entity listeners and the second-level cache up to date, unlike a bulk update.
+ *
+ * @param <T> the entity type.
+ */
+public class VersionedUpdateRepositoryImpl<T> implements VersionedUpdateRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public T update(T entity) {
+        Session session = entityManager.unwrap(Session.class);
+        session.update(entity);
+        try {
+            session.flush();
+        } catch (RuntimeException e) {
+            // Otherwise the failed update would be retried on each flush of the persistence context
+            session.evict(entity);
+            throw e;
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.domain.Comment;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full-text search repository for the {@link Comment} entity.
+ */
+@Component
+public class CommentSearchRepository {
+
+    public static final String TYPE = "comment";
+
+    private static final String COMMENT_CONTENT_FIELD = "commentContent";
+
+    private final SearchIndex searchIndex;
+
+    public CommentSearchRepository(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    public void index(Comment comment) {
+        searchIndex.index(TYPE, comment.getId(), Map.of(COMMENT_CONTENT_FIELD, comment.getCommentContent()));
+    }
+
+    public void delete(Long id) {
+        searchIndex.delete(TYPE, id);
+    }
+
+    public void deleteNotIndexedSince(Instant since) {
+        searchIndex.deleteNotIndexedSince(TYPE, since);
+    }
+
+    /**
+     * Search the comments by content.
+     *
+     * @param query the query.
+     * @param pageable the pagination information.
+     * @return the page of matching comment ids, most relevant first.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        return searchIndex.search(TYPE, query, List.of(COMMENT_CONTENT_FIELD), pageable);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.domain.Recipes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full-text search repository for the {@link Recipes} entity.
+ */
+@Component
+public class RecipesSearchRepository {
+
+    public static final String TYPE = "recipes";
+
+    private static final String RECIPES_NAME_FIELD = "recipesName";
+
+    private final SearchIndex searchIndex;
+
+    public RecipesSearchRepository(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    public void index(Recipes recipes) {
+        searchIndex.index(TYPE, recipes.getId(), Map.of(RECIPES_NAME_FIELD, recipes.getRecipesName()));
+    }
+
+    public void delete(Long id) {
+        searchIndex.delete(TYPE, id);
+    }
+
+    public void deleteNotIndexedSince(Instant since) {
+        searchIndex.deleteNotIndexedSince(TYPE, since);
+    }
+
+    /**
+     * Search the recipes by name.
+     *
+     * @param query the query.
+     * @param pageable the pagination information.
+     * @return the page of matching recipes ids, most relevant first.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        return searchIndex.search(TYPE, query, List.of(RECIPES_NAME_FIELD), pageable);
+    }
+}
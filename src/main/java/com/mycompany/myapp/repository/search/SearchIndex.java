@@ -0,0 +1,238 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Embedded Lucene full-text index, shared by the search repositories.
+ * <p>
+ * Each document is keyed by its entity type and id, and only stores the id: the entities themselves are loaded from the
+ * database. Searches use near-real-time readers, so updates are visible without a commit; commits, which make the
+ * updates durable in the index directory, are done in the background.
+ * <p>
+ * Each instance of the application has its own index, only updated with the changes made by this instance: see
+ * {@link com.mycompany.myapp.service.SearchService#reindex()} to catch up with the changes of the other instances.
+ */
+@Component
+public class SearchIndex {
+
+    public static final String QUERY_METER_NAME = "search.query";
+
+    public static final String UPDATE_METER_NAME = "search.update";
+
+    public static final String TYPE_DIMENSION = "type";
+
+    private static final String KEY_FIELD = "_key";
+
+    private static final String TYPE_FIELD = "_type";
+
+    private static final String ID_FIELD = "_id";
+
+    private static final String INDEXED_AT_FIELD = "_indexedAt";
+
+    private final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    public SearchIndex(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) throws IOException {
+        this.meterRegistry = meterRegistry;
+        String indexDirectory = applicationProperties.getSearch().getIndexDirectory();
+        if (StringUtils.hasText(indexDirectory)) {
+            log.debug("Opening the search index in {}", indexDirectory);
+            this.directory = FSDirectory.open(Paths.get(indexDirectory));
+        } else {
+            log.debug("Creating an in-memory search index");
+            this.directory = new ByteBuffersDirectory();
+        }
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Add or replace the document of an entity.
+     *
+     * @param type the entity type.
+     * @param id the entity id.
+     * @param textFields the full-text fields of the entity, {@code null} values are skipped.
+     */
+    public void index(String type, Long id, Map<String, String> textFields) {
+        Document document = new Document();
+        document.add(new StringField(KEY_FIELD, key(type, id), Field.Store.NO));
+        document.add(new StringField(TYPE_FIELD, type, Field.Store.NO));
+        document.add(new StoredField(ID_FIELD, id));
+        document.add(new LongPoint(INDEXED_AT_FIELD, System.currentTimeMillis()));
+        textFields.forEach((name, value) -> {
+            if (value != null) {
+                document.add(new TextField(name, value, Field.Store.NO));
+            }
+        });
+        updateTimer(type)
+            .record(() -> {
+                try {
+                    indexWriter.updateDocument(new Term(KEY_FIELD, key(type, id)), document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Remove the document of an entity.
+     *
+     * @param type the entity type.
+     * @param id the entity id.
+     */
+    public void delete(String type, Long id) {
+        updateTimer(type)
+            .record(() -> {
+                try {
+                    indexWriter.deleteDocuments(new Term(KEY_FIELD, key(type, id)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Remove the documents of an entity type which were not added or replaced since a given date, such as the documents
+     * of the entities deleted while they were not indexed.
+     *
+     * @param type the entity type.
+     * @param since the date.
+     */
+    public void deleteNotIndexedSince(String type, Instant since) {
+        Query notIndexedSince = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.FILTER)
+            .add(LongPoint.newRangeQuery(INDEXED_AT_FIELD, since.toEpochMilli(), Long.MAX_VALUE), BooleanClause.Occur.MUST_NOT)
+            .build();
+        try {
+            indexWriter.deleteDocuments(notIndexedSince);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Search the documents of an entity type, ranked by relevance.
+     * <p>
+     * The query uses the simple query syntax: {@code +} for AND, {@code |} for OR, {@code -} to negate, double quotes for
+     * phrases and {@code *} as a prefix wildcard. Terms are OR-ed by default.
+     *
+     * @param type the entity type.
+     * @param query the query.
+     * @param fields the full-text fields to search in.
+     * @param pageable the pagination information, the sort is ignored.
+     * @return the page of matching entity ids, most relevant first.
+     */
+    public Page<Long> search(String type, String query, Collection<String> fields, Pageable pageable) {
+        Map<String, Float> weights = fields.stream().collect(Collectors.toMap(Function.identity(), field -> 1f));
+        Query textQuery = new SimpleQueryParser(analyzer, weights).parse(query);
+        Query typedQuery = new BooleanQuery.Builder()
+            .add(textQuery, BooleanClause.Occur.MUST)
+            .add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.FILTER)
+            .build();
+        return meterRegistry
+            .timer(QUERY_METER_NAME, TYPE_DIMENSION, type)
+            .record(() -> {
+                try {
+                    searcherManager.maybeRefresh();
+                    IndexSearcher searcher = searcherManager.acquire();
+                    try {
+                        int offset = Math.toIntExact(pageable.getOffset());
+                        TopScoreDocCollector collector = TopScoreDocCollector.create(offset + pageable.getPageSize(), Integer.MAX_VALUE);
+                        searcher.search(typedQuery, collector);
+                        List<Long> ids = new ArrayList<>();
+                        for (ScoreDoc scoreDoc : collector.topDocs(offset, pageable.getPageSize()).scoreDocs) {
+                            ids.add(searcher.doc(scoreDoc.doc).getField(ID_FIELD).numericValue().longValue());
+                        }
+                        return new PageImpl<>(ids, pageable, collector.getTotalHits());
+                    } finally {
+                        searcherManager.release(searcher);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Make the pending updates durable in the index directory.
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void commit() {
+        if (indexWriter.hasUncommittedChanges()) {
+            try {
+                indexWriter.commit();
+            } catch (IOException e) {
+                log.warn("Could not commit the search index: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private Timer updateTimer(String type) {
+        return meterRegistry.timer(UPDATE_METER_NAME, TYPE_DIMENSION, type);
+    }
+
+    private static String key(String type, Long id) {
+        return type + ':' + id;
+    }
+}
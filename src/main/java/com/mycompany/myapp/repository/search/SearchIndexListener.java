@@ -0,0 +1,72 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.domain.Recipes;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener keeping the full-text search index up to date.
+ * <p>
+ * The index is only updated once the transaction is committed, so that a rolled back change is never searchable.
+ */
+@Component
+public class SearchIndexListener {
+
+    private final Logger log = LoggerFactory.getLogger(SearchIndexListener.class);
+
+    private final RecipesSearchRepository recipesSearchRepository;
+
+    private final CommentSearchRepository commentSearchRepository;
+
+    public SearchIndexListener(RecipesSearchRepository recipesSearchRepository, CommentSearchRepository commentSearchRepository) {
+        this.recipesSearchRepository = recipesSearchRepository;
+        this.commentSearchRepository = commentSearchRepository;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Recipes) {
+            afterCommit(() -> recipesSearchRepository.index((Recipes) entity));
+        } else if (entity instanceof Comment) {
+            afterCommit(() -> commentSearchRepository.index((Comment) entity));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Recipes) {
+            Long id = ((Recipes) entity).getId();
+            afterCommit(() -> recipesSearchRepository.delete(id));
+        } else if (entity instanceof Comment) {
+            Long id = ((Comment) entity).getId();
+            afterCommit(() -> commentSearchRepository.delete(id));
+        }
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        update.run();
+                    } catch (RuntimeException e) {
+                        log.warn("Could not update the search index: {}", e.getMessage());
+                    }
+                }
+            }
+        );
+    }
+}
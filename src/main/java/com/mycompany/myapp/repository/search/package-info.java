@@ -0,0 +1,4 @@
+/**
+ * Full-text search repositories.
+ */
+package com.mycompany.myapp.repository.search;
@@ -0,0 +1,35 @@
+package com.mycompany.myapp.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} asking for a re-hash of every stored hash whose cost differs from the configured strength.
+ * <p>
+ * The default implementation only upgrades weaker hashes, so lowering the strength would never reduce the cost of a login
+ * for existing users.
+ */
+public class BCryptStrengthPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public BCryptStrengthPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt: " + encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(2)) != strength;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the IP address of the client of a request, behind the reverse proxies of
+ * {@code application.security.login-rate-limit.trusted-proxies}.
+ * <p>
+ * The {@code X-Forwarded-For} header is only read when the request comes from a trusted proxy, from right to left: the
+ * client address is the first address which is not a trusted proxy. The addresses on its left were sent by the client
+ * itself and are never used, so that a client cannot choose the address it is limited by.
+ */
+@Component
+public class ClientIpResolver {
+
+    static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final Pattern IP_ADDRESS = Pattern.compile("[0-9a-fA-F.:]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(ApplicationProperties applicationProperties) {
+        this.trustedProxies =
+            applicationProperties
+                .getSecurity()
+                .getLoginRateLimit()
+                .getTrustedProxies()
+                .stream()
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param request the request.
+     * @return the IP address of the client of the request.
+     */
+    public String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (trustedProxies.isEmpty() || !isTrustedProxy(address)) {
+            return address;
+        }
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null) {
+            return address;
+        }
+        String[] forwardedAddresses = forwardedFor.split(",");
+        for (int i = forwardedAddresses.length - 1; i >= 0; i--) {
+            String forwardedAddress = forwardedAddresses[i].trim();
+            if (forwardedAddress.isEmpty()) {
+                continue;
+            }
+            address = forwardedAddress;
+            if (!isTrustedProxy(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        // IpAddressMatcher would resolve a host name
+        if (!IP_ADDRESS.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Not an IP address
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mycompany.myapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limiter for login attempts, with a token bucket per login and another one per client IP address.
+ * <p>
+ * It is checked before the credentials are verified, so that rejected attempts never reach the database nor the password
+ * encoder. Each bucket is a single {@link AtomicLong} holding the time at which it will be full again (the "theoretical
+ * arrival time" of the GCRA formulation of a token bucket), updated with compare-and-set: no lock is taken on the login
+ * path. Idle buckets are evicted once they would have been refilled anyway.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Logger log = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    private final boolean enabled;
+
+    private final Limit perLogin;
+
+    private final Limit perIp;
+
+    private final SecurityMetersService securityMetersService;
+
+    private LongSupplier nanoClock = System::nanoTime;
+
+    public LoginAttemptLimiter(ApplicationProperties applicationProperties, SecurityMetersService securityMetersService) {
+        ApplicationProperties.Security.LoginRateLimit loginRateLimit = applicationProperties.getSecurity().getLoginRateLimit();
+        this.enabled = loginRateLimit.isEnabled();
+        this.perLogin = new Limit(loginRateLimit.getPerLogin(), loginRateLimit.getMaxEntries());
+        this.perIp = new Limit(loginRateLimit.getPerIp(), loginRateLimit.getMaxEntries());
+        this.securityMetersService = securityMetersService;
+    }
+
+    /**
+     * Consume one attempt from the buckets of the client IP address and of the login.
+     *
+     * @param login the login sent by the client.
+     * @param ipAddress the client IP address.
+     * @throws TooManyLoginAttemptsException if one of the buckets is empty.
+     */
+    public void checkAttempt(String login, String ipAddress) {
+        if (!enabled) {
+            return;
+        }
+        if (ipAddress != null) {
+            long waitNanos = perIp.tryConsume(ipAddress, nanoClock.getAsLong());
+            if (waitNanos > 0) {
+                log.debug("Too many login attempts from {}", ipAddress);
+                securityMetersService.trackLoginRejectedPerIp();
+                throw new TooManyLoginAttemptsException("Too many login attempts from this address", toRetryAfterSeconds(waitNanos));
+            }
+        }
+        if (login != null) {
+            long waitNanos = perLogin.tryConsume(login.toLowerCase(Locale.ENGLISH), nanoClock.getAsLong());
+            if (waitNanos > 0) {
+                log.debug("Too many login attempts for {}", login);
+                securityMetersService.trackLoginRejectedPerLogin();
+                throw new TooManyLoginAttemptsException("Too many login attempts for this login", toRetryAfterSeconds(waitNanos));
+            }
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static final class Limit {
+
+        /**
+         * Time needed to regain one attempt.
+         */
+        private final long emissionIntervalNanos;
+
+        /**
+         * Time needed to refill an empty bucket.
+         */
+        private final long refillPeriodNanos;
+
+        private final Cache<String, AtomicLong> buckets;
+
+        private Limit(ApplicationProperties.Security.LoginRateLimit.Bucket bucket, long maxEntries) {
+            this.refillPeriodNanos = bucket.getRefillPeriod().toNanos();
+            this.emissionIntervalNanos = refillPeriodNanos / Math.max(1, bucket.getCapacity());
+            this.buckets = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterAccess(refillPeriodNanos, TimeUnit.NANOSECONDS).build();
+        }
+
+        /**
+         * @return 0 if an attempt was consumed, otherwise the time to wait before the next attempt is allowed.
+         */
+        private long tryConsume(String key, long now) {
+            AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current - now, 0) + emissionIntervalNanos;
+                if (next > refillPeriodNanos) {
+                    return next - refillPeriodNanos;
+                }
+                if (fullAt.compareAndSet(current, now + next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
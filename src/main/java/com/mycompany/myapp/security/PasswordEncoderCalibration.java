@@ -0,0 +1,61 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tech.jhipster.security.RandomUtil;
+
+/**
+ * Measures how long the {@link PasswordEncoder} takes to hash a password on this machine, so that the configured
+ * strength can be tuned against the CPU budget of a login.
+ */
+@Component
+public class PasswordEncoderCalibration {
+
+    private static final int SAMPLES = 3;
+
+    private final Logger log = LoggerFactory.getLogger(PasswordEncoderCalibration.class);
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ApplicationProperties.Security.Password passwordProperties;
+
+    public PasswordEncoderCalibration(PasswordEncoder passwordEncoder, ApplicationProperties applicationProperties) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordProperties = applicationProperties.getSecurity().getPassword();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        if (!passwordProperties.isCalibrateOnStartup()) {
+            return;
+        }
+        log.info(
+            "Hashing a password with BCrypt strength {} takes {} ms",
+            passwordProperties.getBcryptStrength(),
+            measureHashTimeMillis()
+        );
+    }
+
+    /**
+     * Measure the average time taken to hash a random password, after a warm-up round.
+     *
+     * @return the average hash time, in milliseconds.
+     */
+    public long measureHashTimeMillis() {
+        String password = RandomUtil.generatePassword();
+        passwordEncoder.encode(password);
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            passwordEncoder.encode(password);
+        }
+        return TimeUnit.NANOSECONDS.toMillis((System.nanoTime() - start) / SAMPLES);
+    }
+}
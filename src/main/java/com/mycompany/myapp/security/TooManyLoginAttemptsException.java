@@ -0,0 +1,22 @@
+package com.mycompany.myapp.security;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * This exception is thrown when a login attempt is rejected by the {@link LoginAttemptLimiter}.
+ */
+public class TooManyLoginAttemptsException extends AuthenticationException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,5 +1,9 @@
 package com.mycompany.myapp.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.management.SecurityMetersService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -7,7 +11,10 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +25,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import tech.jhipster.config.JHipsterProperties;
 
 @Component
@@ -39,7 +47,17 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
-    public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
+    /**
+     * Principals of the tokens already validated, keyed by the SHA-256 hash of the token, until the token expires.
+     * {@code null} when the cache is disabled.
+     */
+    private final Cache<String, ValidatedToken> validatedTokens;
+
+    public TokenProvider(
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        SecurityMetersService securityMetersService
+    ) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
         if (!ObjectUtils.isEmpty(secret)) {
@@ -60,6 +78,12 @@ public class TokenProvider {
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
 
         this.securityMetersService = securityMetersService;
+
+        long tokenCacheMaxEntries = applicationProperties.getSecurity().getTokenCache().getMaxEntries();
+        this.validatedTokens =
+            tokenCacheMaxEntries > 0
+                ? Caffeine.newBuilder().maximumSize(tokenCacheMaxEntries).expireAfter(new ValidatedTokenExpiry()).build()
+                : null;
     }
 
     public String createToken(Authentication authentication, boolean rememberMe) {
@@ -83,24 +107,41 @@ public class TokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        User principal = getValidatedPrincipal(token);
+        if (principal == null) {
+            principal = cacheValidatedPrincipal(token, jwtParser.parseClaimsJws(token).getBody());
+        }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
-            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .filter(auth -> !auth.trim().isEmpty())
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+        return createAuthentication(principal, token);
+    }
 
-        User principal = new User(claims.getSubject(), "", authorities);
+    public boolean validateToken(String authToken) {
+        return resolvePrincipal(authToken).isPresent();
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * Validate a token and build its {@link Authentication}, parsing the token only once.
+     *
+     * @param authToken the JWT token.
+     * @return the authentication of the token, or an empty {@link Optional} if the token is not valid.
+     */
+    public Optional<Authentication> authenticate(String authToken) {
+        return resolvePrincipal(authToken).map(principal -> createAuthentication(principal, authToken));
     }
 
-    public boolean validateToken(String authToken) {
+    private Optional<User> resolvePrincipal(String authToken) {
+        if (validatedTokens != null && StringUtils.hasText(authToken)) {
+            User principal = getValidatedPrincipal(authToken);
+            if (principal != null) {
+                this.securityMetersService.trackTokenCacheHit();
+                return Optional.of(principal);
+            }
+            this.securityMetersService.trackTokenCacheMiss();
+        }
         try {
-            jwtParser.parseClaimsJws(authToken);
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
 
-            return true;
+            return Optional.of(cacheValidatedPrincipal(authToken, claims));
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
@@ -121,6 +162,78 @@ public class TokenProvider {
             log.error("Token validation error {}", e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    private Authentication createAuthentication(User principal, String token) {
+        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+    }
+
+    private User createPrincipal(Claims claims) {
+        Collection<? extends GrantedAuthority> authorities = Arrays
+            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+            .filter(auth -> !auth.trim().isEmpty())
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+
+        return new User(claims.getSubject(), "", authorities);
+    }
+
+    private User getValidatedPrincipal(String token) {
+        if (validatedTokens == null) {
+            return null;
+        }
+        ValidatedToken validatedToken = validatedTokens.getIfPresent(hash(token));
+        return validatedToken != null ? validatedToken.principal : null;
+    }
+
+    private User cacheValidatedPrincipal(String token, Claims claims) {
+        User principal = createPrincipal(claims);
+        if (validatedTokens != null && claims.getExpiration() != null) {
+            validatedTokens.put(hash(token), new ValidatedToken(principal, claims.getExpiration().getTime()));
+        }
+        return principal;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class ValidatedToken {
+
+        private final User principal;
+
+        private final long expirationTimeMillis;
+
+        private ValidatedToken(User principal, long expirationTimeMillis) {
+            this.principal = principal;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+    }
+
+    /**
+     * Evicts a validated token when the token itself expires, so an expired token is never served from the cache.
+     */
+    private static final class ValidatedTokenExpiry implements Expiry<String, ValidatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ValidatedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expirationTimeMillis - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.mycompany.myapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service inserting many entities in one transaction, using JDBC batching.
+ * <p>
+ * Entities are persisted in chunks of {@code hibernate.jdbc.batch_size}: each chunk is flushed, which sends its inserts
+ * as one JDBC batch, and then detached, so the persistence context never holds more than one chunk.
+ */
+@Service
+@Transactional
+public class BulkInsertService {
+
+    private final Logger log = LoggerFactory.getLogger(BulkInsertService.class);
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    public BulkInsertService(
+        EntityManager entityManager,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Insert new entities.
+     *
+     * @param repository the repository of the entities.
+     * @param entities the entities to insert, without ids.
+     * @param <T> the entity type.
+     * @return the inserted entities, in the same order, detached from the persistence context.
+     */
+    public <T> List<T> insertAll(JpaRepository<T, ?> repository, List<T> entities) {
+        log.debug("Request to insert {} entities in chunks of {}", entities.size(), batchSize);
+        List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            result.add(repository.save(entity));
+            if (result.size() % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return result;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
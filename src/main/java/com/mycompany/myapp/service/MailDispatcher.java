@@ -0,0 +1,198 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.aop.lease.ScheduledLease;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.OutboxMail;
+import com.mycompany.myapp.repository.OutboxMailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service delivering the emails queued in the outbox by the {@link MailService}.
+ * <p>
+ * The due emails are sent in batches, each batch over a single SMTP connection. An email which could not be sent is
+ * retried with an exponential backoff, and abandoned after {@code application.mail.outbox.max-attempts} attempts.
+ */
+@Service
+public class MailDispatcher {
+
+    public static final String PENDING_METER = "mail.outbox.pending";
+
+    public static final String ABANDONED_METER = "mail.outbox.abandoned";
+
+    public static final String DELIVERIES_METER = "mail.outbox.deliveries";
+
+    private final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private final OutboxMailRepository outboxMailRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.Mail.Outbox properties;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong abandoned = new AtomicLong();
+
+    private final Counter sentCounter;
+
+    private final Counter retriedCounter;
+
+    private final Counter abandonedCounter;
+
+    public MailDispatcher(
+        OutboxMailRepository outboxMailRepository,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxMailRepository = outboxMailRepository;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMail().getOutbox();
+        Gauge.builder(PENDING_METER, pending, AtomicLong::get).description("Emails waiting to be delivered").register(meterRegistry);
+        Gauge
+            .builder(ABANDONED_METER, abandoned, AtomicLong::get)
+            .description("Emails abandoned after the last attempt")
+            .register(meterRegistry);
+        this.sentCounter = deliveryCounter(meterRegistry, "sent");
+        this.retriedCounter = deliveryCounter(meterRegistry, "retried");
+        this.abandonedCounter = deliveryCounter(meterRegistry, "abandoned");
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(DELIVERIES_METER).description("Email delivery attempts").tag("result", result).register(meterRegistry);
+    }
+
+    /**
+     * Deliver the due emails of the outbox.
+     * <p>
+     * This is scheduled to get fired every {@code application.mail.outbox.poll-interval}, on a single instance as the
+     * emails are not locked while they are sent.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.mail.outbox.poll-interval:PT5S}",
+        initialDelayString = "${application.mail.outbox.poll-interval:PT5S}"
+    )
+    @ScheduledLease(name = "mail-dispatcher")
+    public void dispatch() {
+        int batchSize = properties.getBatchSize();
+        List<OutboxMail> batch;
+        int sent;
+        do {
+            batch = outboxMailRepository.findAllByNextAttemptDateLessThanEqualOrderByIdAsc(Instant.now(), PageRequest.of(0, batchSize));
+            sent = batch.isEmpty() ? 0 : sendBatch(batch);
+        } while (batch.size() == batchSize && sent > 0);
+        pending.set(outboxMailRepository.countByNextAttemptDateIsNotNull());
+        abandoned.set(outboxMailRepository.countByNextAttemptDateIsNull());
+    }
+
+    /**
+     * Send a batch of emails over a single connection, delete the emails which were sent and schedule the next attempt
+     * of the others.
+     *
+     * @return the number of emails sent.
+     */
+    private int sendBatch(List<OutboxMail> batch) {
+        Map<OutboxMail, Exception> failures = new HashMap<>();
+        Map<MimeMessage, OutboxMail> messages = new LinkedHashMap<>();
+        for (OutboxMail mail : batch) {
+            try {
+                messages.put(createMimeMessage(mail), mail);
+            } catch (MessagingException e) {
+                failures.put(mail, e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            log.debug("Sending {} emails", messages.size());
+            try {
+                javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                // The messages missing from the failed messages were sent before the failure
+                e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+            } catch (MailException e) {
+                messages.values().forEach(mail -> failures.put(mail, e));
+            }
+        }
+
+        List<OutboxMail> sent = new ArrayList<>(batch);
+        sent.removeAll(failures.keySet());
+        if (!sent.isEmpty()) {
+            outboxMailRepository.deleteAllInBatch(sent);
+            sentCounter.increment(sent.size());
+            log.debug("Sent {} emails", sent.size());
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(this::scheduleRetry);
+            outboxMailRepository.saveAll(failures.keySet());
+        }
+        return sent.size();
+    }
+
+    private MimeMessage createMimeMessage(OutboxMail mail) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, mail.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(mail.getRecipient());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getContent(), mail.isHtml());
+        return mimeMessage;
+    }
+
+    private void scheduleRetry(OutboxMail mail, Exception cause) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(truncate(String.valueOf(cause.getMessage()), 255));
+        if (attempts >= properties.getMaxAttempts()) {
+            mail.setNextAttemptDate(null);
+            abandonedCounter.increment();
+            log.error("Email to '{}' abandoned after {} attempts", mail.getRecipient(), attempts, cause);
+        } else {
+            Duration backoff = backoff(attempts);
+            mail.setNextAttemptDate(Instant.now().plus(backoff));
+            retriedCounter.increment();
+            log.warn("Email to '{}' could not be sent, retrying in {}: {}", mail.getRecipient(), backoff, cause.getMessage());
+        }
+    }
+
+    /**
+     * @return the initial backoff doubled for each previous failed attempt, up to the maximum backoff.
+     */
+    Duration backoff(int attempts) {
+        Duration maxBackoff = properties.getMaxBackoff();
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
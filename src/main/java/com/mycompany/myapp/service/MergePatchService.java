@@ -0,0 +1,108 @@
+package com.mycompany.myapp.service;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Service applying a JSON merge patch to an entity with a single {@code UPDATE} statement.
+ * <p>
+ * Only the columns of the non-null basic attributes of the patch are set, and the entity is never loaded. As with any
+ * bulk update, the entity listeners are not called and Hibernate evicts the second-level cache region of the entity; an
+ * instance of the entity already loaded in the persistence context is detached, so that it is read again.
+ */
+@Service
+@Transactional
+public class MergePatchService {
+
+    private final Logger log = LoggerFactory.getLogger(MergePatchService.class);
+
+    private final EntityManager entityManager;
+
+    public MergePatchService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Apply a merge patch to an entity.
+     * <p>
+     * The version of the entity, if it has one, is incremented.
+     *
+     * @param entityClass the entity class.
+     * @param id the entity id.
+     * @param expectedVersion the version the entity must have, or {@code null} to patch any version.
+     * @param patch the patch, its non-null basic attributes other than the id and the version are copied to the entity.
+     * @param <T> the entity type.
+     * @return {@code false} if there is no entity with this id.
+     * @throws OptimisticLockingFailureException if the entity is not at the expected version.
+     */
+    public <T> boolean patch(Class<T> entityClass, Object id, Long expectedVersion, T patch) {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+        List<Predicate> restrictions = new ArrayList<>();
+        List<String> patched = new ArrayList<>();
+        String idName = null;
+        for (SingularAttribute<? super T, ?> attribute : entityType.getSingularAttributes()) {
+            if (attribute.isId()) {
+                idName = attribute.getName();
+                restrictions.add(cb.equal(root.get(attribute.getName()), id));
+            } else if (attribute.isVersion()) {
+                Path<Long> version = root.get(attribute.getName());
+                update.set(version, cb.sum(version, 1L));
+                if (expectedVersion != null) {
+                    restrictions.add(cb.equal(version, expectedVersion));
+                }
+            } else if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                Object value = getValue(attribute, patch);
+                if (value != null) {
+                    update.set(attribute.getName(), value);
+                    patched.add(attribute.getName());
+                }
+            }
+        }
+        update.where(restrictions.toArray(new Predicate[0]));
+        log.debug("Request to patch {} {} at version {}: {}", entityType.getName(), id, expectedVersion, patched);
+
+        if (entityManager.createQuery(update).executeUpdate() > 0) {
+            // Returns the loaded instance if there is one, or a proxy without reading the entity
+            entityManager.detach(entityManager.getReference(entityClass, id));
+            return true;
+        }
+        if (!exists(entityClass, idName, id)) {
+            return false;
+        }
+        throw new OptimisticLockingFailureException(entityType.getName() + " " + id + " is not at version " + expectedVersion);
+    }
+
+    private <T> boolean exists(Class<T> entityClass, String idName, Object id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(cb.count(root)).where(cb.equal(root.get(idName), id));
+        return entityManager.createQuery(query).getSingleResult() > 0;
+    }
+
+    private static Object getValue(Attribute<?, ?> attribute, Object patch) {
+        Field field = (Field) attribute.getJavaMember();
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, patch);
+    }
+}
@@ -0,0 +1,177 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.repository.CommentRepository;
+import com.mycompany.myapp.repository.RecipesRepository;
+import com.mycompany.myapp.repository.search.CommentSearchRepository;
+import com.mycompany.myapp.repository.search.RecipesSearchRepository;
+import com.mycompany.myapp.repository.search.SearchIndex;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the full-text search of {@link Recipes} and {@link Comment}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int REINDEX_CHUNK_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private final RecipesRepository recipesRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final RecipesSearchRepository recipesSearchRepository;
+
+    private final CommentSearchRepository commentSearchRepository;
+
+    private final SearchIndex searchIndex;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationProperties.Search searchProperties;
+
+    public SearchService(
+        RecipesRepository recipesRepository,
+        CommentRepository commentRepository,
+        RecipesSearchRepository recipesSearchRepository,
+        CommentSearchRepository commentSearchRepository,
+        SearchIndex searchIndex,
+        EntityManager entityManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.recipesRepository = recipesRepository;
+        this.commentRepository = commentRepository;
+        this.recipesSearchRepository = recipesSearchRepository;
+        this.commentSearchRepository = commentSearchRepository;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.searchProperties = applicationProperties.getSearch();
+    }
+
+    /**
+     * Search the recipes by name.
+     *
+     * @param query the query.
+     * @param pageable the pagination information.
+     * @return the page of matching recipes, most relevant first.
+     */
+    public Page<Recipes> searchRecipes(String query, Pageable pageable) {
+        log.debug("Request to search for a page of Recipes for query {}", query);
+        return load(recipesSearchRepository.search(query, pageable), recipesRepository::findAllById, Recipes::getId);
+    }
+
+    /**
+     * Search the comments by content.
+     *
+     * @param query the query.
+     * @param pageable the pagination information.
+     * @return the page of matching comments, most relevant first.
+     */
+    public Page<Comment> searchComments(String query, Pageable pageable) {
+        log.debug("Request to search for a page of Comments for query {}", query);
+        return load(commentSearchRepository.search(query, pageable), commentRepository::findAllById, Comment::getId);
+    }
+
+    /**
+     * Rebuild the search index of this instance when the application starts, before it accepts traffic, as the index
+     * missed the changes made by the other instances while this one was stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (searchProperties.isReindexOnStartup()) {
+            reindex();
+        }
+    }
+
+    /**
+     * Rebuild the search index of this instance every {@code application.search.reindex-cron}, to catch up with the
+     * changes made by the other instances.
+     */
+    @Scheduled(cron = "${application.search.reindex-cron:-}")
+    public void scheduledReindex() {
+        reindex();
+    }
+
+    /**
+     * Rebuild the search index of this instance from the database.
+     * <p>
+     * Entities are read in chunks, so the persistence context never holds more than one chunk. Their documents are
+     * replaced in place, and the documents which were not replaced, of the entities deleted since, are removed last, so
+     * that searches find the entities all along the rebuild.
+     *
+     * @return the number of indexed entities, by entity type.
+     */
+    public Map<String, Long> reindex() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Instant start = Instant.now();
+        counts.put(
+            RecipesSearchRepository.TYPE,
+            reindex(recipesRepository::findAllBy, recipesRepository::findAllByIdGreaterThan, Recipes::getId, recipesSearchRepository::index)
+        );
+        recipesSearchRepository.deleteNotIndexedSince(start);
+        counts.put(
+            CommentSearchRepository.TYPE,
+            reindex(commentRepository::findAllBy, commentRepository::findAllByIdGreaterThan, Comment::getId, commentSearchRepository::index)
+        );
+        commentSearchRepository.deleteNotIndexedSince(start);
+        searchIndex.commit();
+        log.info("Rebuilt the search index: {}", counts);
+        return counts;
+    }
+
+    private <T> long reindex(
+        Function<Pageable, Slice<T>> firstChunk,
+        BiFunction<Long, Pageable, Slice<T>> nextChunk,
+        Function<T, Long> idExtractor,
+        Consumer<T> indexer
+    ) {
+        Pageable chunk = PageRequest.of(0, REINDEX_CHUNK_SIZE, Sort.by("id"));
+        long count = 0;
+        Slice<T> slice = firstChunk.apply(chunk);
+        while (slice.hasContent()) {
+            List<T> content = slice.getContent();
+            content.forEach(indexer);
+            count += content.size();
+            if (!slice.hasNext()) {
+                break;
+            }
+            Long lastId = idExtractor.apply(content.get(content.size() - 1));
+            entityManager.clear();
+            slice = nextChunk.apply(lastId, chunk);
+        }
+        return count;
+    }
+
+    private <T> Page<T> load(Page<Long> ids, Function<List<Long>, List<T>> finder, Function<T, Long> idExtractor) {
+        Map<Long, T> entities = finder.apply(ids.getContent()).stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+        List<T> content = ids.getContent().stream().map(entities::get).filter(Objects::nonNull).collect(Collectors.toList());
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.aop.lease.ScheduledLease;
 import com.mycompany.myapp.config.Constants;
 import com.mycompany.myapp.domain.Authority;
 import com.mycompany.myapp.domain.User;
@@ -9,17 +10,25 @@ import com.mycompany.myapp.security.AuthoritiesConstants;
 import com.mycompany.myapp.security.SecurityUtils;
 import com.mycompany.myapp.service.dto.AdminUserDTO;
 import com.mycompany.myapp.service.dto.UserDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.security.RandomUtil;
 
@@ -28,7 +37,13 @@ import tech.jhipster.security.RandomUtil;
  */
 @Service
 @Transactional
-public class UserService {
+public class UserService implements UserDetailsPasswordService {
+
+    public static final String NOT_ACTIVATED_USERS_DELETED_METER_NAME = "users.not-activated.deleted";
+
+    public static final String NOT_ACTIVATED_USERS_DELETION_METER_NAME = "users.not-activated.deletion";
+
+    private static final int NOT_ACTIVATED_USERS_CHUNK_SIZE = 500;
 
     private final Logger log = LoggerFactory.getLogger(UserService.class);
 
@@ -38,10 +53,38 @@ public class UserService {
 
     private final AuthorityRepository authorityRepository;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthorityRepository authorityRepository) {
+    private final CacheManager cacheManager;
+
+    private final MailService mailService;
+
+    private final Counter notActivatedUsersDeletedCounter;
+
+    private final Timer notActivatedUsersDeletionTimer;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        AuthorityRepository authorityRepository,
+        CacheManager cacheManager,
+        MailService mailService,
+        MeterRegistry meterRegistry
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
+        this.cacheManager = cacheManager;
+        this.mailService = mailService;
+        this.notActivatedUsersDeletedCounter =
+            Counter
+                .builder(NOT_ACTIVATED_USERS_DELETED_METER_NAME)
+                .baseUnit("users")
+                .description("Not activated users deleted after 3 days")
+                .register(meterRegistry);
+        this.notActivatedUsersDeletionTimer =
+            Timer
+                .builder(NOT_ACTIVATED_USERS_DELETION_METER_NAME)
+                .description("Deletion of a chunk of not activated users")
+                .register(meterRegistry);
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -52,6 +95,7 @@ public class UserService {
                 // activate given user for the registration key.
                 user.setActivated(true);
                 user.setActivationKey(null);
+                this.clearUserCaches(user);
                 log.debug("Activated user: {}", user);
                 return user;
             });
@@ -66,6 +110,7 @@ public class UserService {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
                 user.setResetDate(null);
+                this.clearUserCaches(user);
                 return user;
             });
     }
@@ -77,6 +122,8 @@ public class UserService {
             .map(user -> {
                 user.setResetKey(RandomUtil.generateResetKey());
                 user.setResetDate(Instant.now());
+                this.clearUserCaches(user);
+                mailService.sendPasswordResetMail(user);
                 return user;
             });
     }
@@ -118,7 +165,9 @@ public class UserService {
         authorityRepository.findById(AuthoritiesConstants.CHEF).ifPresent(authorities::add);
         newUser.setAuthorities(authorities);
         userRepository.save(newUser);
+        this.clearUserCaches(newUser);
         log.debug("Created Information for User: {}", newUser);
+        mailService.sendActivationEmail(newUser);
         return newUser;
     }
 
@@ -128,6 +177,7 @@ public class UserService {
         }
         userRepository.delete(existingUser);
         userRepository.flush();
+        this.clearUserCaches(existingUser);
         return true;
     }
 
@@ -161,7 +211,9 @@ public class UserService {
             user.setAuthorities(authorities);
         }
         userRepository.save(user);
+        this.clearUserCaches(user);
         log.debug("Created Information for User: {}", user);
+        mailService.sendCreationEmail(user);
         return user;
     }
 
@@ -177,6 +229,7 @@ public class UserService {
             .filter(Optional::isPresent)
             .map(Optional::get)
             .map(user -> {
+                this.clearUserCaches(user);
                 user.setLogin(userDTO.getLogin().toLowerCase());
                 user.setFirstName(userDTO.getFirstName());
                 user.setLastName(userDTO.getLastName());
@@ -195,6 +248,7 @@ public class UserService {
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .forEach(managedAuthorities::add);
+                this.clearUserCaches(user);
                 log.debug("Changed Information for User: {}", user);
                 return user;
             })
@@ -206,6 +260,7 @@ public class UserService {
             .findOneByLogin(login)
             .ifPresent(user -> {
                 userRepository.delete(user);
+                this.clearUserCaches(user);
                 log.debug("Deleted User: {}", user);
             });
     }
@@ -231,6 +286,7 @@ public class UserService {
                 }
                 user.setLangKey(langKey);
                 user.setImageUrl(imageUrl);
+                this.clearUserCaches(user);
                 log.debug("Changed Information for User: {}", user);
             });
     }
@@ -247,6 +303,7 @@ public class UserService {
                 }
                 String encryptedPassword = passwordEncoder.encode(newPassword);
                 user.setPassword(encryptedPassword);
+                this.clearUserCaches(user);
                 log.debug("Changed password for User: {}", user);
             });
     }
@@ -274,16 +331,39 @@ public class UserService {
     /**
      * Not activated users should be automatically deleted after 3 days.
      * <p>
-     * This is scheduled to get fired everyday, at 01:00 (am).
+     * This is scheduled to get fired everyday, at 01:00 (am), on a single instance. The users are deleted in chunks, each
+     * chunk in its own short transaction, so that the user table is never locked for long.
      */
     @Scheduled(cron = "0 0 1 * * ?")
+    @ScheduledLease(name = "remove-not-activated-users", holdAtMostFor = "PT1H", holdAtLeastFor = "PT5M")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void removeNotActivatedUsers() {
-        userRepository
-            .findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant.now().minus(3, ChronoUnit.DAYS))
-            .forEach(user -> {
-                log.debug("Deleting not activated user {}", user.getLogin());
-                userRepository.delete(user);
-            });
+        removeNotActivatedUsers(NOT_ACTIVATED_USERS_CHUNK_SIZE);
+    }
+
+    void removeNotActivatedUsers(int chunkSize) {
+        Instant createdBefore = Instant.now().minus(3, ChronoUnit.DAYS);
+        Instant afterCreatedDate = Instant.EPOCH;
+        Long afterId = 0L;
+        List<User> users;
+        do {
+            users =
+                userRepository.findNotActivatedUsersCreatedBefore(createdBefore, afterCreatedDate, afterId, PageRequest.of(0, chunkSize));
+            if (!users.isEmpty()) {
+                User last = users.get(users.size() - 1);
+                afterCreatedDate = last.getCreatedDate();
+                afterId = last.getId();
+                deleteNotActivatedUsers(users);
+            }
+        } while (users.size() == chunkSize);
+    }
+
+    private void deleteNotActivatedUsers(List<User> users) {
+        List<Long> ids = users.stream().map(User::getId).collect(Collectors.toList());
+        int deleted = notActivatedUsersDeletionTimer.record(() -> userRepository.deleteNotActivatedUsersByIdIn(ids));
+        users.forEach(this::clearUserCaches);
+        notActivatedUsersDeletedCounter.increment(deleted);
+        log.debug("Deleted {} not activated users up to {}", deleted, users.get(users.size() - 1).getLogin());
     }
 
     /**
@@ -294,4 +374,30 @@ public class UserService {
     public List<String> getAuthorities() {
         return authorityRepository.findAll().stream().map(Authority::getName).collect(Collectors.toList());
     }
+
+    /**
+     * Store the password hash re-computed with the current encoder settings after a successful login.
+     *
+     * @param user the authenticated user.
+     * @param newPassword the new password hash.
+     * @return the authenticated user, with the new password hash.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository
+            .findOneByLogin(user.getUsername())
+            .ifPresent(existingUser -> {
+                existingUser.setPassword(newPassword);
+                this.clearUserCaches(existingUser);
+                log.debug("Upgraded password hash for User: {}", existingUser.getLogin());
+            });
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    private void clearUserCaches(User user) {
+        Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evict(user.getLogin());
+        if (user.getEmail() != null) {
+            Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evict(user.getEmail());
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for listing {@link com.mycompany.myapp.domain.Comment}, with the name of their recipes and the login of its author.
+ * <p>
+ * Built by a JPQL constructor expression, so a page of comments is read with a single query.
+ */
+public class CommentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String commentContent;
+
+    private Long version;
+
+    private RecipeSummaryDTO recipes;
+
+    public CommentDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CommentDTO(
+        Long id,
+        String commentContent,
+        Long version,
+        Long recipesId,
+        String recipesName,
+        Long recipesVersion,
+        Long userId,
+        String userLogin
+    ) {
+        this.id = id;
+        this.commentContent = commentContent;
+        this.version = version;
+        this.recipes = recipesId != null ? new RecipeSummaryDTO(recipesId, recipesName, recipesVersion, userId, userLogin) : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCommentContent() {
+        return commentContent;
+    }
+
+    public void setCommentContent(String commentContent) {
+        this.commentContent = commentContent;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public RecipeSummaryDTO getRecipes() {
+        return recipes;
+    }
+
+    public void setRecipes(RecipeSummaryDTO recipes) {
+        this.recipes = recipes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CommentDTO)) {
+            return false;
+        }
+        CommentDTO that = (CommentDTO) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CommentDTO{" +
+            "id=" + id +
+            ", commentContent='" + commentContent + "'" +
+            ", version=" + version +
+            ", recipes=" + recipes +
+            "}";
+    }
+}
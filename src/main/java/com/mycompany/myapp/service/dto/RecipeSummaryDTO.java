@@ -0,0 +1,93 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for listing {@link com.mycompany.myapp.domain.Recipes}, with the login of their author.
+ * <p>
+ * Built by a JPQL constructor expression, so a page of recipes is read with a single query.
+ */
+public class RecipeSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String recipesName;
+
+    private Long version;
+
+    private UserDTO user;
+
+    public RecipeSummaryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public RecipeSummaryDTO(Long id, String recipesName, Long version, Long userId, String userLogin) {
+        this.id = id;
+        this.recipesName = recipesName;
+        this.version = version;
+        this.user = userId != null ? new UserDTO(userId, userLogin) : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRecipesName() {
+        return recipesName;
+    }
+
+    public void setRecipesName(String recipesName) {
+        this.recipesName = recipesName;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public UserDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserDTO user) {
+        this.user = user;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecipeSummaryDTO)) {
+            return false;
+        }
+        RecipeSummaryDTO that = (RecipeSummaryDTO) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RecipeSummaryDTO{" +
+            "id=" + id +
+            ", recipesName='" + recipesName + "'" +
+            ", version=" + version +
+            ", user=" + user +
+            "}";
+    }
+}
@@ -1,23 +1,50 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Comment;
 import com.mycompany.myapp.repository.CommentRepository;
+import com.mycompany.myapp.repository.search.SearchIndexListener;
+import com.mycompany.myapp.service.BulkInsertService;
+import com.mycompany.myapp.service.MergePatchService;
+import com.mycompany.myapp.service.SearchService;
+import com.mycompany.myapp.service.dto.CommentDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.BulkRequestUtil;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import com.mycompany.myapp.web.rest.vm.BulkItemResultVM;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -32,13 +59,48 @@ public class CommentResource {
 
     private static final String ENTITY_NAME = "comment";
 
+    /**
+     * Number of comments loaded at once when streaming the full listing.
+     */
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final CommentRepository commentRepository;
 
-    public CommentResource(CommentRepository commentRepository) {
+    private final ObjectMapper objectMapper;
+
+    private final SearchService searchService;
+
+    private final BulkInsertService bulkInsertService;
+
+    private final Validator validator;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final MergePatchService mergePatchService;
+
+    private final SearchIndexListener searchIndexListener;
+
+    public CommentResource(
+        CommentRepository commentRepository,
+        ObjectMapper objectMapper,
+        SearchService searchService,
+        BulkInsertService bulkInsertService,
+        Validator validator,
+        ApplicationProperties applicationProperties,
+        MergePatchService mergePatchService,
+        SearchIndexListener searchIndexListener
+    ) {
         this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.searchService = searchService;
+        this.bulkInsertService = bulkInsertService;
+        this.validator = validator;
+        this.applicationProperties = applicationProperties;
+        this.mergePatchService = mergePatchService;
+        this.searchIndexListener = searchIndexListener;
     }
 
     /**
@@ -62,13 +124,38 @@ public class CommentResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /comments/_bulk} : Create many new comments at once.
+     * <p>
+     * The whole array is validated first, then all the comments are inserted in one transaction, using JDBC batches.
+     *
+     * @param comments the comments to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the result of each item, in the order of the request,
+     * or with status {@code 400 (Bad Request)} and the results of the invalid items if any item is not valid, in which case nothing is created.
+     */
+    @PostMapping("/comments/_bulk")
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    public ResponseEntity<List<BulkItemResultVM>> createCommentsInBulk(@RequestBody List<Comment> comments) {
+        log.debug("REST request to save {} Comments in bulk", comments.size());
+        BulkRequestUtil.validate(validator, comments, applicationProperties.getBulk().getMaxItems(), ENTITY_NAME, Comment::getId);
+        List<Comment> result = bulkInsertService.insertAll(commentRepository, comments);
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .headers(
+                HeaderUtil.createAlert(applicationName, applicationName + "." + ENTITY_NAME + ".bulkCreated", String.valueOf(result.size()))
+            )
+            .body(BulkRequestUtil.created(result, Comment::getId));
+    }
+
     /**
      * {@code PUT  /comments/:id} : Updates an existing comment.
      *
      * @param id the id of the comment to save.
      * @param comment the comment to update.
+     * @param ifMatch the ETag of the comment the client expects to overwrite, if any, otherwise the version in the body is used.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated comment,
      * or with status {@code 400 (Bad Request)} if the comment is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the comment was updated since the client got it,
      * or with status {@code 500 (Internal Server Error)} if the comment couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -76,7 +163,8 @@ public class CommentResource {
     @PreAuthorize("hasAuthority('ROLE_USER')")
     public ResponseEntity<Comment> updateComment(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Comment comment
+        @Valid @RequestBody Comment comment,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Comment : {}, {}", id, comment);
         if (comment.getId() == null) {
@@ -86,33 +174,44 @@ public class CommentResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!commentRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        comment.setVersion(
+            ETagUtil
+                .expectedVersion(ifMatch, comment.getVersion(), ENTITY_NAME, id)
+                // A client unaware of versions overwrites the current state
+                .orElseGet(() ->
+                    commentRepository
+                        .findVersionById(id)
+                        .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"))
+                )
+        );
 
-        Comment result = commentRepository.save(comment);
-        return ResponseEntity
-            .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, comment.getId().toString()))
-            .body(result);
+        Comment result = commentRepository.update(comment);
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, comment.getId().toString());
+        headers.addAll(createETagHeaders(id));
+        return ResponseEntity.ok().headers(headers).body(result);
     }
 
     /**
      * {@code PATCH  /comments/:id} : Partial updates given fields of an existing comment, field will ignore if it is null
+     * <p>
+     * The fields are set with a single {@code UPDATE} statement, and the comment is read back as a {@link CommentDTO}.
      *
      * @param id the id of the comment to save.
      * @param comment the comment to update.
+     * @param ifMatch the ETag of the comment the client expects to patch, if any, otherwise the version in the body is used.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated comment,
      * or with status {@code 400 (Bad Request)} if the comment is not valid,
      * or with status {@code 404 (Not Found)} if the comment is not found,
+     * or with status {@code 412 (Precondition Failed)} if the comment was updated since the client got it,
      * or with status {@code 500 (Internal Server Error)} if the comment couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/comments/{id}", consumes = { "application/json", "application/merge-patch+json" })
     @PreAuthorize("hasAuthority('ROLE_USER')")
-    public ResponseEntity<Comment> partialUpdateComment(
+    public ResponseEntity<CommentDTO> partialUpdateComment(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Comment comment
+        @NotNull @RequestBody Comment comment,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Comment partially : {}, {}", id, comment);
         if (comment.getId() == null) {
@@ -122,49 +221,138 @@ public class CommentResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!commentRepository.existsById(id)) {
+        Long expectedVersion = ETagUtil.expectedVersion(ifMatch, comment.getVersion(), ENTITY_NAME, id).orElse(null);
+        if (!mergePatchService.patch(Comment.class, id, expectedVersion, comment)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
+        if (comment.getCommentContent() != null) {
+            // The update bypassed the entity listeners
+            searchIndexListener.onSave(comment);
+        }
 
-        Optional<Comment> result = commentRepository
-            .findById(comment.getId())
-            .map(existingComment -> {
-                if (comment.getCommentContent() != null) {
-                    existingComment.setCommentContent(comment.getCommentContent());
-                }
-
-                return existingComment;
-            })
-            .map(commentRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, comment.getId().toString())
-        );
+        CommentDTO result = commentRepository.findDtoById(id).orElseThrow();
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, comment.getId().toString());
+        headers.addAll(createETagHeaders(id));
+        return ResponseEntity.ok().headers(headers).body(result);
     }
 
     /**
      * {@code GET  /comments} : get all the comments.
+     * <p>
+     * The comments are streamed to the client in chunks of {@value #STREAM_CHUNK_SIZE}, walking the primary key, so that
+     * only one chunk is held in memory at any time. Prefer {@code GET /recipes/:id/comments} to get a page of comments.
+     * <p>
+     * No transaction spans the response, which lasts as long as the client takes to read it: the fingerprint and each
+     * chunk are read in their own read-only transaction, so that a database connection is only held while a query runs.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of comments in body.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @param response the HTTP response the comments are written to, as a JSON array, or with status
+     * {@code 304 (Not Modified)} if no comments changed since the client got them.
+     * @throws IOException if the comments couldn't be written to the response.
      */
     @GetMapping("/comments")
-    public List<Comment> getAllComments() {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void getAllComments(WebRequest webRequest, HttpServletResponse response) throws IOException {
         log.debug("REST request to get all Comments");
-        return commentRepository.findAll();
+        // Sets the ETag header, and the 304 status when it matches the If-None-Match header
+        if (webRequest.checkNotModified(ETagUtil.forList(ENTITY_NAME, commentRepository.findVersionFingerprint()))) {
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ETagUtil.REVALIDATE.getHeaderValue());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            Pageable chunk = PageRequest.of(0, STREAM_CHUNK_SIZE, Sort.by("id"));
+            Slice<CommentDTO> slice = commentRepository.findAllDtosBy(chunk);
+            while (true) {
+                for (CommentDTO comment : slice) {
+                    generator.writeObject(comment);
+                }
+                generator.flush();
+                if (!slice.hasNext()) {
+                    break;
+                }
+                List<CommentDTO> content = slice.getContent();
+                slice = commentRepository.findAllDtosByIdGreaterThan(content.get(content.size() - 1).getId(), chunk);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * {@code GET  /recipes/:id/comments} : get a page of the comments of the "id" recipes, using keyset pagination.
+     * <p>
+     * The next cursor is returned in a {@code rel="next"} link of the {@code Link} header, which is absent on the last page.
+     *
+     * @param id the id of the recipes to retrieve the comments of.
+     * @param after the cursor returned with the previous page, or an empty value (or none) for the first page.
+     * @param pageable the pagination information, only the size and a sort on the id are used.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of comments in body,
+     * or with status {@code 304 (Not Modified)} if no comments of the recipes changed since the client got the list.
+     */
+    @GetMapping("/recipes/{id}/comments")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<CommentDTO>> getAllCommentsOfRecipes(
+        @PathVariable Long id,
+        @RequestParam(value = KeysetPaginationUtil.CURSOR_PARAM, required = false) String after,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        WebRequest webRequest
+    ) {
+        log.debug("REST request to get a keyset page of Comments of Recipes {} after : {}", id, after);
+        String eTag = ETagUtil.forList(ENTITY_NAME, commentRepository.findVersionFingerprintByRecipesId(id));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Pageable seek = KeysetPaginationUtil.toSeekPageable(pageable, ENTITY_NAME);
+        boolean ascending = seek.getSort().stream().allMatch(Sort.Order::isAscending);
+        Slice<CommentDTO> slice = KeysetPaginationUtil
+            .decodeCursor(after, ENTITY_NAME)
+            .map(cursor ->
+                ascending
+                    ? commentRepository.findAllDtosByRecipesIdAndIdGreaterThan(id, cursor, seek)
+                    : commentRepository.findAllDtosByRecipesIdAndIdLessThan(id, cursor, seek)
+            )
+            .orElseGet(() -> commentRepository.findAllDtosByRecipesId(id, seek));
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice,
+            CommentDTO::getId
+        );
+        headers.addAll(ETagUtil.createHeaders(eTag));
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
     }
 
     /**
      * {@code GET  /comments/:id} : get the "id" comment.
      *
      * @param id the id of the comment to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the comment, or with status {@code 404 (Not Found)}.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the comment, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the comment didn't change since the client got it.
      */
     @GetMapping("/comments/{id}")
-    public ResponseEntity<Comment> getComment(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Comment> getComment(@PathVariable Long id, WebRequest webRequest) {
         log.debug("REST request to get Comment : {}", id);
+        if (
+            ETagUtil.checkNotModified(
+                webRequest,
+                () -> commentRepository.findEntityVersionById(id).map(version -> ETagUtil.forEntity(ENTITY_NAME, id, version))
+            )
+        ) {
+            return null;
+        }
         Optional<Comment> comment = commentRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(comment);
+        return ResponseUtil.wrapOrNotFound(
+            comment,
+            comment
+                .map(found -> {
+                    Long recipesVersion = found.getRecipes() == null ? null : found.getRecipes().getVersion();
+                    return ETagUtil.createHeaders(ETagUtil.forEntity(ENTITY_NAME, id, found.getVersion(), recipesVersion, null));
+                })
+                .orElse(null)
+        );
     }
 
     /**
@@ -183,4 +371,35 @@ public class CommentResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code SEARCH  /_search/comments?q=:query} : search for the comments corresponding to the query.
+     *
+     * @param query the query of the comment search.
+     * @param pageable the pagination information, the comments are sorted by relevance.
+     * @return the result of the search.
+     */
+    @GetMapping("/_search/comments")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Comment>> searchComments(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search for a page of Comments for query {}", query);
+        Page<Comment> page = searchService.searchComments(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * Create the headers with the current ETag of a comment, the same as {@code GET /comments/:id} sends.
+     *
+     * @param id the id of the comment.
+     * @return the {@link HttpHeaders} with the ETag.
+     */
+    private HttpHeaders createETagHeaders(Long id) {
+        return ETagUtil.createHeaders(
+            commentRepository.findEntityVersionById(id).map(version -> ETagUtil.forEntity(ENTITY_NAME, id, version)).orElseThrow()
+        );
+    }
 }
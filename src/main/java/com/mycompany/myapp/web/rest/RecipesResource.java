@@ -1,26 +1,41 @@
 package com.mycompany.myapp.web.rest;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Recipes;
 import com.mycompany.myapp.repository.RecipesRepository;
+import com.mycompany.myapp.repository.search.SearchIndexListener;
+import com.mycompany.myapp.service.BulkInsertService;
+import com.mycompany.myapp.service.MergePatchService;
+import com.mycompany.myapp.service.SearchService;
+import com.mycompany.myapp.service.dto.RecipeSummaryDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.BulkRequestUtil;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import com.mycompany.myapp.web.rest.vm.BulkItemResultVM;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import javax.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -43,8 +58,34 @@ public class RecipesResource {
 
     private final RecipesRepository recipesRepository;
 
-    public RecipesResource(RecipesRepository recipesRepository) {
+    private final SearchService searchService;
+
+    private final BulkInsertService bulkInsertService;
+
+    private final Validator validator;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final MergePatchService mergePatchService;
+
+    private final SearchIndexListener searchIndexListener;
+
+    public RecipesResource(
+        RecipesRepository recipesRepository,
+        SearchService searchService,
+        BulkInsertService bulkInsertService,
+        Validator validator,
+        ApplicationProperties applicationProperties,
+        MergePatchService mergePatchService,
+        SearchIndexListener searchIndexListener
+    ) {
         this.recipesRepository = recipesRepository;
+        this.searchService = searchService;
+        this.bulkInsertService = bulkInsertService;
+        this.validator = validator;
+        this.applicationProperties = applicationProperties;
+        this.mergePatchService = mergePatchService;
+        this.searchIndexListener = searchIndexListener;
     }
 
     /**
@@ -68,13 +109,38 @@ public class RecipesResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /recipes/_bulk} : Create many new recipes at once.
+     * <p>
+     * The whole array is validated first, then all the recipes are inserted in one transaction, using JDBC batches.
+     *
+     * @param recipes the recipes to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the result of each item, in the order of the request,
+     * or with status {@code 400 (Bad Request)} and the results of the invalid items if any item is not valid, in which case nothing is created.
+     */
+    @PostMapping("/recipes/_bulk")
+    @PreAuthorize("hasAuthority('ROLE_CHEF')")
+    public ResponseEntity<List<BulkItemResultVM>> createRecipesInBulk(@RequestBody List<Recipes> recipes) {
+        log.debug("REST request to save {} Recipes in bulk", recipes.size());
+        BulkRequestUtil.validate(validator, recipes, applicationProperties.getBulk().getMaxItems(), ENTITY_NAME, Recipes::getId);
+        List<Recipes> result = bulkInsertService.insertAll(recipesRepository, recipes);
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .headers(
+                HeaderUtil.createAlert(applicationName, applicationName + "." + ENTITY_NAME + ".bulkCreated", String.valueOf(result.size()))
+            )
+            .body(BulkRequestUtil.created(result, Recipes::getId));
+    }
+
     /**
      * {@code PUT  /recipes/:id} : Updates an existing recipes.
      *
      * @param id the id of the recipes to save.
      * @param recipes the recipes to update.
+     * @param ifMatch the ETag of the recipes the client expects to overwrite, if any, otherwise the version in the body is used.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated recipes,
      * or with status {@code 400 (Bad Request)} if the recipes is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the recipes was updated since the client got it,
      * or with status {@code 500 (Internal Server Error)} if the recipes couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -82,7 +148,8 @@ public class RecipesResource {
     @PreAuthorize("hasAuthority('ROLE_CHEF')")
     public ResponseEntity<Recipes> updateRecipes(
         @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody Recipes recipes
+        @Valid @RequestBody Recipes recipes,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Recipes : {}, {}", id, recipes);
         if (recipes.getId() == null) {
@@ -92,33 +159,44 @@ public class RecipesResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!recipesRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        recipes.setVersion(
+            ETagUtil
+                .expectedVersion(ifMatch, recipes.getVersion(), ENTITY_NAME, id)
+                // A client unaware of versions overwrites the current state
+                .orElseGet(() ->
+                    recipesRepository
+                        .findVersionById(id)
+                        .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"))
+                )
+        );
 
-        Recipes result = recipesRepository.save(recipes);
-        return ResponseEntity
-            .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, recipes.getId().toString()))
-            .body(result);
+        Recipes result = recipesRepository.update(recipes);
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, recipes.getId().toString());
+        headers.addAll(createETagHeaders(id));
+        return ResponseEntity.ok().headers(headers).body(result);
     }
 
     /**
      * {@code PATCH  /recipes/:id} : Partial updates given fields of an existing recipes, field will ignore if it is null
+     * <p>
+     * The fields are set with a single {@code UPDATE} statement, and the recipes is read back as a {@link RecipeSummaryDTO}.
      *
      * @param id the id of the recipes to save.
      * @param recipes the recipes to update.
+     * @param ifMatch the ETag of the recipes the client expects to patch, if any, otherwise the version in the body is used.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated recipes,
      * or with status {@code 400 (Bad Request)} if the recipes is not valid,
      * or with status {@code 404 (Not Found)} if the recipes is not found,
+     * or with status {@code 412 (Precondition Failed)} if the recipes was updated since the client got it,
      * or with status {@code 500 (Internal Server Error)} if the recipes couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/recipes/{id}", consumes = { "application/json", "application/merge-patch+json" })
     @PreAuthorize("hasAuthority('ROLE_CHEF')")
-    public ResponseEntity<Recipes> partialUpdateRecipes(
+    public ResponseEntity<RecipeSummaryDTO> partialUpdateRecipes(
         @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody Recipes recipes
+        @NotNull @RequestBody Recipes recipes,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Recipes partially : {}, {}", id, recipes);
         if (recipes.getId() == null) {
@@ -128,52 +206,117 @@ public class RecipesResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!recipesRepository.existsById(id)) {
+        Long expectedVersion = ETagUtil.expectedVersion(ifMatch, recipes.getVersion(), ENTITY_NAME, id).orElse(null);
+        if (!mergePatchService.patch(Recipes.class, id, expectedVersion, recipes)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
+        if (recipes.getRecipesName() != null) {
+            // The update bypassed the entity listeners
+            searchIndexListener.onSave(recipes);
+        }
 
-        Optional<Recipes> result = recipesRepository
-            .findById(recipes.getId())
-            .map(existingRecipes -> {
-                if (recipes.getRecipesName() != null) {
-                    existingRecipes.setRecipesName(recipes.getRecipesName());
-                }
-
-                return existingRecipes;
-            })
-            .map(recipesRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, recipes.getId().toString())
-        );
+        RecipeSummaryDTO result = recipesRepository.findSummaryById(id).orElseThrow();
+        HttpHeaders headers = HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, recipes.getId().toString());
+        headers.addAll(createETagHeaders(id));
+        return ResponseEntity.ok().headers(headers).body(result);
     }
 
     /**
      * {@code GET  /recipes} : get all the recipes.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of recipes in body.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of recipes in body,
+     * or with status {@code 304 (Not Modified)} if no recipes changed since the client got the list.
      */
     @GetMapping("/recipes")
-    public ResponseEntity<List<Recipes>> getAllRecipes(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<RecipeSummaryDTO>> getAllRecipes(
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        WebRequest webRequest
+    ) {
         log.debug("REST request to get a page of Recipes");
-        Page<Recipes> page = recipesRepository.findAll(pageable);
+        String eTag = ETagUtil.forList(ENTITY_NAME, recipesRepository.findVersionFingerprint());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Page<RecipeSummaryDTO> page = recipesRepository.findAllSummaries(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        headers.addAll(ETagUtil.createHeaders(eTag));
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /recipes?after=:cursor} : get a page of recipes using keyset pagination.
+     * <p>
+     * Seeks on the primary key instead of using an offset, and does not count the recipes: the next cursor is returned
+     * in a {@code rel="next"} link of the {@code Link} header, which is absent on the last page.
+     *
+     * @param after the cursor returned with the previous page, or an empty value for the first page.
+     * @param pageable the pagination information, only the size and a sort on the id are used.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of recipes in body,
+     * or with status {@code 304 (Not Modified)} if no recipes changed since the client got the list.
+     */
+    @GetMapping(value = "/recipes", params = KeysetPaginationUtil.CURSOR_PARAM)
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<RecipeSummaryDTO>> getAllRecipesByCursor(
+        @RequestParam(KeysetPaginationUtil.CURSOR_PARAM) String after,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        WebRequest webRequest
+    ) {
+        log.debug("REST request to get a keyset page of Recipes after : {}", after);
+        String eTag = ETagUtil.forList(ENTITY_NAME, recipesRepository.findVersionFingerprint());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        Pageable seek = KeysetPaginationUtil.toSeekPageable(pageable, ENTITY_NAME);
+        boolean ascending = seek.getSort().stream().allMatch(Sort.Order::isAscending);
+        Slice<RecipeSummaryDTO> slice = KeysetPaginationUtil
+            .decodeCursor(after, ENTITY_NAME)
+            .map(id ->
+                ascending ? recipesRepository.findAllSummariesByIdGreaterThan(id, seek) : recipesRepository.findAllSummariesByIdLessThan(id, seek)
+            )
+            .orElseGet(() -> recipesRepository.findAllSummariesBy(seek));
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice,
+            RecipeSummaryDTO::getId
+        );
+        headers.addAll(ETagUtil.createHeaders(eTag));
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
     /**
      * {@code GET  /recipes/:id} : get the "id" recipes.
      *
      * @param id the id of the recipes to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the recipes, or with status {@code 404 (Not Found)}.
+     * @param webRequest the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the recipes, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the recipes didn't change since the client got it.
      */
     @GetMapping("/recipes/{id}")
-    public ResponseEntity<Recipes> getRecipes(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<Recipes> getRecipes(@PathVariable Long id, WebRequest webRequest) {
         log.debug("REST request to get Recipes : {}", id);
+        if (
+            ETagUtil.checkNotModified(
+                webRequest,
+                () -> recipesRepository.findEntityVersionById(id).map(version -> ETagUtil.forEntity(ENTITY_NAME, id, version))
+            )
+        ) {
+            return null;
+        }
         Optional<Recipes> recipes = recipesRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(recipes);
+        return ResponseUtil.wrapOrNotFound(
+            recipes,
+            recipes
+                .map(found -> {
+                    Instant userLastModifiedDate = found.getUser() == null ? null : found.getUser().getLastModifiedDate();
+                    return ETagUtil.createHeaders(ETagUtil.forEntity(ENTITY_NAME, id, found.getVersion(), null, userLastModifiedDate));
+                })
+                .orElse(null)
+        );
     }
 
     /**
@@ -192,4 +335,35 @@ public class RecipesResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code SEARCH  /_search/recipes?q=:query} : search for the recipes corresponding to the query.
+     *
+     * @param query the query of the recipes search.
+     * @param pageable the pagination information, the recipes are sorted by relevance.
+     * @return the result of the search.
+     */
+    @GetMapping("/_search/recipes")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Recipes>> searchRecipes(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search for a page of Recipes for query {}", query);
+        Page<Recipes> page = searchService.searchRecipes(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * Create the headers with the current ETag of a recipes, the same as {@code GET /recipes/:id} sends.
+     *
+     * @param id the id of the recipes.
+     * @return the {@link HttpHeaders} with the ETag.
+     */
+    private HttpHeaders createETagHeaders(Long id) {
+        return ETagUtil.createHeaders(
+            recipesRepository.findEntityVersionById(id).map(version -> ETagUtil.forEntity(ENTITY_NAME, id, version)).orElseThrow()
+        );
+    }
 }
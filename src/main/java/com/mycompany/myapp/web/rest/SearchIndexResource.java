@@ -0,0 +1,40 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.SearchService;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for managing the full-text search index.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class SearchIndexResource {
+
+    private final Logger log = LoggerFactory.getLogger(SearchIndexResource.class);
+
+    private final SearchService searchService;
+
+    public SearchIndexResource(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * {@code POST  /admin/_search/reindex} : rebuild the search index from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of indexed entities by type in body.
+     */
+    @PostMapping("/_search/reindex")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Map<String, Long>> reindex() {
+        log.debug("REST request to rebuild the search index");
+        return ResponseEntity.ok(searchService.reindex());
+    }
+}
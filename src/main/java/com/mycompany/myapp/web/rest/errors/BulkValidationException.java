@@ -0,0 +1,26 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import com.mycompany.myapp.web.rest.vm.BulkItemResultVM;
+import java.util.List;
+
+/**
+ * Thrown when some items of a bulk request are not valid, in which case none of the items is processed.
+ */
+public class BulkValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<BulkItemResultVM> items;
+
+    public BulkValidationException(List<BulkItemResultVM> items) {
+        super(items.size() + " item(s) of the bulk request are not valid");
+        this.items = items;
+    }
+
+    /**
+     * @return the results of the invalid items.
+     */
+    public List<BulkItemResultVM> getItems() {
+        return items;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest.errors;
 
+import com.mycompany.myapp.security.TooManyLoginAttemptsException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.validation.BindingResult;
@@ -40,6 +42,7 @@ import tech.jhipster.web.util.HeaderUtil;
 public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait {
 
     private static final String FIELD_ERRORS_KEY = "fieldErrors";
+    private static final String ITEMS_KEY = "items";
     private static final String MESSAGE_KEY = "message";
     private static final String PATH_KEY = "path";
     private static final String VIOLATIONS_KEY = "violations";
@@ -158,9 +161,35 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         );
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException ex, NativeWebRequest request) {
+        Problem problem = Problem.builder().withStatus(Status.TOO_MANY_REQUESTS).withDetail(ex.getMessage()).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return create(ex, problem, request, headers);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleBulkValidationException(BulkValidationException ex, NativeWebRequest request) {
+        Problem problem = Problem
+            .builder()
+            .withType(ErrorConstants.CONSTRAINT_VIOLATION_TYPE)
+            .withTitle("Bulk request not valid")
+            .withStatus(defaultConstraintViolationStatus())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_VALIDATION)
+            .with(ITEMS_KEY, ex.getItems())
+            .build();
+        return create(ex, problem, request);
+    }
+
+    /**
+     * A write conditioned by an {@code If-Match} header fails with a {@code 412 (Precondition Failed)}, and with a
+     * {@code 409 (Conflict)} otherwise.
+     */
     @ExceptionHandler
     public ResponseEntity<Problem> handleConcurrencyFailure(ConcurrencyFailureException ex, NativeWebRequest request) {
-        Problem problem = Problem.builder().withStatus(Status.CONFLICT).with(MESSAGE_KEY, ErrorConstants.ERR_CONCURRENCY_FAILURE).build();
+        Status status = request.getHeader(HttpHeaders.IF_MATCH) != null ? Status.PRECONDITION_FAILED : Status.CONFLICT;
+        Problem problem = Problem.builder().withStatus(status).with(MESSAGE_KEY, ErrorConstants.ERR_CONCURRENCY_FAILURE).build();
         return create(ex, problem, request);
     }
 
@@ -0,0 +1,90 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.BulkValidationException;
+import com.mycompany.myapp.web.rest.errors.FieldErrorVM;
+import com.mycompany.myapp.web.rest.vm.BulkItemResultVM;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.validation.Validator;
+
+/**
+ * Utility class for the bulk create endpoints.
+ * <p>
+ * A bulk request is all or nothing: the whole array is validated before anything is inserted, and a single invalid
+ * item rejects the request.
+ */
+public final class BulkRequestUtil {
+
+    private BulkRequestUtil() {}
+
+    /**
+     * Validate all the items of a bulk create request.
+     *
+     * @param validator the bean validator.
+     * @param items the items to create.
+     * @param maxItems the maximum number of items of a request.
+     * @param entityName the entity name, used in the error messages.
+     * @param idExtractor the id of an item, which must be {@code null}.
+     * @param <T> the entity type.
+     * @throws BadRequestAlertException if the request is empty or has too many items.
+     * @throws BulkValidationException if some items are not valid.
+     */
+    public static <T> void validate(Validator validator, List<T> items, int maxItems, String entityName, Function<T, Long> idExtractor) {
+        if (items.isEmpty() || items.size() > maxItems) {
+            throw new BadRequestAlertException(
+                "A bulk request must have between 1 and " + maxItems + " " + entityName + " items",
+                entityName,
+                "bulksize"
+            );
+        }
+        List<BulkItemResultVM> invalidItems = new ArrayList<>();
+        IntStream
+            .range(0, items.size())
+            .forEach(index -> {
+                T item = items.get(index);
+                if (item == null) {
+                    invalidItems.add(BulkItemResultVM.invalid(index, List.of(new FieldErrorVM(entityName, "", "NotNull"))));
+                    return;
+                }
+                List<FieldErrorVM> fieldErrors = validator
+                    .validate(item)
+                    .stream()
+                    .map(violation ->
+                        new FieldErrorVM(
+                            entityName,
+                            violation.getPropertyPath().toString(),
+                            violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName()
+                        )
+                    )
+                    .collect(Collectors.toCollection(ArrayList::new));
+                if (idExtractor.apply(item) != null) {
+                    fieldErrors.add(new FieldErrorVM(entityName, "id", "idexists"));
+                }
+                if (!fieldErrors.isEmpty()) {
+                    invalidItems.add(BulkItemResultVM.invalid(index, fieldErrors));
+                }
+            });
+        if (!invalidItems.isEmpty()) {
+            throw new BulkValidationException(invalidItems);
+        }
+    }
+
+    /**
+     * Build the results of the created items.
+     *
+     * @param created the created entities, in the order of the request.
+     * @param idExtractor the id of an entity.
+     * @param <T> the entity type.
+     * @return one result per item.
+     */
+    public static <T> List<BulkItemResultVM> created(List<T> created, Function<T, Long> idExtractor) {
+        return IntStream
+            .range(0, created.size())
+            .mapToObj(index -> BulkItemResultVM.created(index, idExtractor.apply(created.get(index))))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,148 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.repository.EntityVersion;
+import com.mycompany.myapp.repository.VersionFingerprint;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Utility class for the strong ETags of the entities and of their listings.
+ * <p>
+ * ETags are computed from the ids and versions of the entities, and of the parent entities and users embedded in their
+ * representation, so that a conditional {@code GET} can be answered with a {@code 304 (Not Modified)} before anything is
+ * loaded or serialized. The version of an entity comes first in its ETag, so that the version a client expects to
+ * overwrite can be read back from its {@code If-Match} header.
+ */
+public final class ETagUtil {
+
+    /**
+     * Lets clients store the responses, but makes them revalidate with the ETag before each use.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETagUtil() {}
+
+    /**
+     * Build the ETag of an entity, and of the parent entity and user embedded in its representation.
+     *
+     * @param entityName the entity name.
+     * @param id the entity id.
+     * @param version the entity version.
+     * @param parentVersion the version of the embedded parent entity, or {@code null}.
+     * @param lastModifiedDate the last modified date of the embedded user, or {@code null}.
+     * @return the quoted ETag.
+     */
+    public static String forEntity(String entityName, Long id, Long version, Long parentVersion, Instant lastModifiedDate) {
+        return String.format(
+            "\"%s-%d-%d-%d-%d\"",
+            entityName,
+            id,
+            version,
+            Optional.ofNullable(parentVersion).orElse(0L),
+            Optional.ofNullable(lastModifiedDate).map(Instant::toEpochMilli).orElse(0L)
+        );
+    }
+
+    /**
+     * Build the ETag of an entity, and of the parent entity and user embedded in its representation.
+     *
+     * @param entityName the entity name.
+     * @param id the entity id.
+     * @param version the versions of the entity.
+     * @return the quoted ETag.
+     */
+    public static String forEntity(String entityName, Long id, EntityVersion version) {
+        return forEntity(entityName, id, version.getVersion(), version.getParentVersion(), version.getLastModifiedDate());
+    }
+
+    /**
+     * Build the ETag of a listing of entities.
+     *
+     * @param entityName the entity name.
+     * @param fingerprint the fingerprint of all the entities the listing is taken from.
+     * @return the quoted ETag.
+     */
+    public static String forList(String entityName, VersionFingerprint fingerprint) {
+        return String.format(
+            "\"%s-list-%d-%d-%d-%d\"",
+            entityName,
+            fingerprint.getCount(),
+            Optional.ofNullable(fingerprint.getVersionSum()).orElse(0L),
+            Optional.ofNullable(fingerprint.getMaxId()).orElse(0L),
+            Optional.ofNullable(fingerprint.getLastModifiedDate()).map(Instant::toEpochMilli).orElse(0L)
+        );
+    }
+
+    /**
+     * Create the headers of a response with an ETag.
+     *
+     * @param eTag the quoted ETag of the response.
+     * @return the {@link HttpHeaders} with the ETag and a {@link #REVALIDATE} cache control.
+     */
+    public static HttpHeaders createHeaders(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setCacheControl(REVALIDATE);
+        return headers;
+    }
+
+    /**
+     * Check the {@code If-None-Match} header of a request against the current ETag of a resource.
+     * <p>
+     * When the ETag matches, the response status is set to {@code 304 (Not Modified)} and the controller must return
+     * without writing a body.
+     *
+     * @param request the current request.
+     * @param currentETag the current ETag of the resource, only computed when the request has an {@code If-None-Match}
+     *                    header, or an empty {@link Optional} if the resource doesn't exist.
+     * @return {@code true} if the client already has the current representation.
+     */
+    public static boolean checkNotModified(WebRequest request, Supplier<Optional<String>> currentETag) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        return currentETag.get().map(request::checkNotModified).orElse(false);
+    }
+
+    /**
+     * Get the version of an entity a write request expects to overwrite.
+     * <p>
+     * The version is taken from the {@code If-Match} header when there is one, and from the body of the request
+     * otherwise. An {@code If-Match: *} header only requires the entity to exist.
+     *
+     * @param ifMatch the {@code If-Match} header of the request, or {@code null}.
+     * @param bodyVersion the version sent in the body of the request, or {@code null}.
+     * @param entityName the entity name.
+     * @param id the entity id.
+     * @return the expected version, or an empty {@link Optional} if the client overwrites any version.
+     * @throws OptimisticLockingFailureException if the {@code If-Match} header has no ETag of the entity.
+     */
+    public static Optional<Long> expectedVersion(String ifMatch, Long bodyVersion, String entityName, Long id) {
+        if (ifMatch == null) {
+            return Optional.ofNullable(bodyVersion);
+        }
+        if ("*".equals(ifMatch.trim())) {
+            return Optional.empty();
+        }
+        String prefix = "\"" + entityName + "-" + id + "-";
+        for (String eTag : ifMatch.split(",")) {
+            eTag = eTag.trim();
+            if (eTag.startsWith(prefix) && eTag.endsWith("\"") && eTag.length() > prefix.length() + 1) {
+                String version = eTag.substring(prefix.length(), eTag.length() - 1);
+                // The versions of the embedded parent entity and user follow the version of the entity, if any
+                int end = version.indexOf('-');
+                try {
+                    return Optional.of(Long.valueOf(end < 0 ? version : version.substring(0, end)));
+                } catch (NumberFormatException e) {
+                    // Not one of our ETags, weak ETags never match either
+                }
+            }
+        }
+        throw new OptimisticLockingFailureException("No ETag of " + entityName + " " + id + " in If-Match: " + ifMatch);
+    }
+}
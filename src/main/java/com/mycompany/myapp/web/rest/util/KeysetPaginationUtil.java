@@ -0,0 +1,118 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for keyset (cursor) pagination.
+ * <p>
+ * Instead of an {@code OFFSET}, the client sends back an opaque cursor wrapping the id of the last row it received, and
+ * the next page is fetched by seeking on the primary key. No {@code COUNT(*)} query is issued: the presence of a
+ * {@code rel="next"} link in the {@link HttpHeaders#LINK} header is the only indication that more rows are available.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String CURSOR_PARAM = "after";
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Encode the id of the last row of a page into an opaque cursor.
+     *
+     * @param id the id of the last row returned.
+     * @return the URL-safe cursor.
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously built by {@link #encodeCursor(Long)}.
+     *
+     * @param cursor the cursor sent by the client, an empty value meaning "start from the beginning".
+     * @param entityName the entity name, used in the error message.
+     * @return the id to seek from, or an empty {@link Optional} for the first page.
+     * @throws BadRequestAlertException if the cursor is not a valid cursor.
+     */
+    public static Optional<Long> decodeCursor(String cursor, String entityName) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CURSOR_PREFIX)) {
+                return Optional.of(Long.valueOf(decoded.substring(CURSOR_PREFIX.length())));
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+        }
+        throw new BadRequestAlertException("Invalid cursor", entityName, "cursorinvalid");
+    }
+
+    /**
+     * Build the seek {@link Pageable} for a keyset page: always the first page, sorted on the id, with a capped size.
+     *
+     * @param pageable the pagination information sent by the client, only sorting on the id is supported.
+     * @param entityName the entity name, used in the error message.
+     * @return the {@link Pageable} to use for the seek query.
+     * @throws BadRequestAlertException if the client asked to sort on another property.
+     */
+    public static Pageable toSeekPageable(Pageable pageable, String entityName) {
+        Sort.Direction direction = Sort.Direction.ASC;
+        for (Sort.Order order : pageable.getSort()) {
+            if (!ID_PROPERTY.equals(order.getProperty())) {
+                throw new BadRequestAlertException("Cursor pagination can only be sorted by id", entityName, "cursorsortinvalid");
+            }
+            direction = order.getDirection();
+        }
+        int size = pageable.isPaged() ? Math.min(pageable.getPageSize(), MAX_PAGE_SIZE) : MAX_PAGE_SIZE;
+        return PageRequest.of(0, size, Sort.by(direction, ID_PROPERTY));
+    }
+
+    /**
+     * Generate the {@link HttpHeaders#LINK} header for a keyset page, with a {@code rel="next"} link when there is one.
+     *
+     * @param uriBuilder the current request URI builder.
+     * @param slice the page of rows returned to the client.
+     * @param idExtractor function returning the id of a row.
+     * @param <T> the type of the rows.
+     * @return the {@link HttpHeaders}.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(
+        UriComponentsBuilder uriBuilder,
+        Slice<T> slice,
+        Function<T, Long> idExtractor
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        List<T> content = slice.getContent();
+        if (slice.hasNext() && !content.isEmpty()) {
+            String cursor = encodeCursor(idExtractor.apply(content.get(content.size() - 1)));
+            String link = uriBuilder
+                .replaceQueryParam(CURSOR_PARAM, cursor)
+                .replaceQueryParam("size", slice.getSize())
+                .replaceQueryParam("page")
+                .toUriString();
+            headers.add(HttpHeaders.LINK, MessageFormat.format(HEADER_LINK_FORMAT, link, "next"));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,62 @@
+package com.mycompany.myapp.web.rest.vm;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mycompany.myapp.web.rest.errors.FieldErrorVM;
+import java.util.List;
+
+/**
+ * View Model object for the result of one item of a bulk request.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class BulkItemResultVM {
+
+    private final int index;
+
+    private final int status;
+
+    private final Long id;
+
+    private final List<FieldErrorVM> fieldErrors;
+
+    private BulkItemResultVM(int index, int status, Long id, List<FieldErrorVM> fieldErrors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.fieldErrors = fieldErrors;
+    }
+
+    public static BulkItemResultVM created(int index, Long id) {
+        return new BulkItemResultVM(index, 201, id, List.of());
+    }
+
+    public static BulkItemResultVM invalid(int index, List<FieldErrorVM> fieldErrors) {
+        return new BulkItemResultVM(index, 400, null, fieldErrors);
+    }
+
+    /**
+     * @return the position of the item in the request.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the HTTP status the item would have had in a single request.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public List<FieldErrorVM> getFieldErrors() {
+        return fieldErrors;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkItemResultVM{index=" + index + ", status=" + status + ", id=" + id + ", fieldErrors=" + fieldErrors.size() + "}";
+    }
+}
@@ -32,5 +32,14 @@ describe('Parse links service test', () => {
       const links = { last: 0, first: 0 };
       expect(service.parse(' </api/audits?page=0&size=20>; rel="last",</api/audits?page=0&size=20>; rel="first"')).toEqual(links);
     }));
+
+    it('should return cursors when keyset headers are passed', inject([ParseLinks], (service: ParseLinks) => {
+      const cursors = { next: 'aWQ6MTIz' };
+      expect(service.parseCursors('</api/recipes?after=aWQ6MTIz&size=20>; rel="next"')).toEqual(cursors);
+    }));
+
+    it('should ignore links without cursor', inject([ParseLinks], (service: ParseLinks) => {
+      expect(service.parseCursors('</api/audits?page=0&size=20>; rel="last"')).toEqual({});
+    }));
   });
 });
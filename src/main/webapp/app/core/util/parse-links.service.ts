@@ -11,13 +11,40 @@ export class ParseLinks {
    * Method to parse the links
    */
   parse(header: string): { [key: string]: number } {
+    const links: { [key: string]: number } = {};
+    const queryStrings = this.parseQueryStrings(header);
+    Object.keys(queryStrings).forEach(name => {
+      const page = queryStrings[name].page;
+      if (page !== undefined) {
+        links[name] = parseInt(page, 10);
+      }
+    });
+    return links;
+  }
+
+  /**
+   * Method to parse the cursors of keyset paginated links
+   */
+  parseCursors(header: string, cursorParam = 'after'): { [key: string]: string } {
+    const cursors: { [key: string]: string } = {};
+    const queryStrings = this.parseQueryStrings(header);
+    Object.keys(queryStrings).forEach(name => {
+      const cursor = queryStrings[name][cursorParam];
+      if (cursor !== undefined) {
+        cursors[name] = decodeURIComponent(cursor);
+      }
+    });
+    return cursors;
+  }
+
+  private parseQueryStrings(header: string): { [key: string]: { [key: string]: string | undefined } } {
     if (header.length === 0) {
       throw new Error('input must not be of zero length');
     }
 
     // Split parts by comma
     const parts: string[] = header.split(',');
-    const links: { [key: string]: number } = {};
+    const links: { [key: string]: { [key: string]: string | undefined } } = {};
 
     // Parse each part into a named link
     parts.forEach(p => {
@@ -37,10 +64,8 @@ export class ParseLinks {
         return $3 ?? '';
       });
 
-      if (queryString.page !== undefined) {
-        const name: string = section[1].replace(/rel="(.*)"/, '$1').trim();
-        links[name] = parseInt(queryString.page, 10);
-      }
+      const name: string = section[1].replace(/rel="(.*)"/, '$1').trim();
+      links[name] = queryString;
     });
     return links;
   }
@@ -53,6 +53,29 @@ describe('Recipes Management Component', () => {
     expect(comp.recipes[0]).toEqual(expect.objectContaining({ id: 123 }));
   });
 
+  it('should use keyset pagination when sorting by id', () => {
+    // GIVEN
+    const headers = new HttpHeaders().append('link', '</api/recipes?after=aWQ6MTIz&size=20>; rel="next"');
+    jest.spyOn(service, 'query').mockReturnValue(of(new HttpResponse({ body: [{ id: 123 }], headers })));
+
+    // WHEN
+    comp.ngOnInit();
+    comp.loadNextPage();
+
+    // THEN
+    expect(service.query).toHaveBeenNthCalledWith(1, expect.objectContaining({ after: '', sort: ['id,asc'] }));
+    expect(service.query).toHaveBeenNthCalledWith(2, expect.objectContaining({ after: 'aWQ6MTIz', sort: ['id,asc'] }));
+    expect(comp.hasNextPage()).toBe(true);
+  });
+
+  it('should stop infinite scroll on the last keyset page', () => {
+    // WHEN
+    comp.ngOnInit();
+
+    // THEN
+    expect(comp.hasNextPage()).toBe(false);
+  });
+
   it('should calculate the sort attribute for an id', () => {
     // WHEN
     comp.ngOnInit();
@@ -18,6 +18,7 @@ export class RecipesComponent implements OnInit {
   isLoading = false;
   itemsPerPage: number;
   links: { [key: string]: number };
+  cursors: { [key: string]: string };
   page: number;
   predicate: string;
   ascending: boolean;
@@ -29,6 +30,7 @@ export class RecipesComponent implements OnInit {
     this.links = {
       last: 0,
     };
+    this.cursors = {};
     this.predicate = 'id';
     this.ascending = true;
   }
@@ -37,11 +39,19 @@ export class RecipesComponent implements OnInit {
     this.isLoading = true;
 
     this.recipesService
-      .query({
-        page: this.page,
-        size: this.itemsPerPage,
-        sort: this.sort(),
-      })
+      .query(
+        this.isCursorPaging()
+          ? {
+              after: this.cursors.next ?? '',
+              size: this.itemsPerPage,
+              sort: this.sort(),
+            }
+          : {
+              page: this.page,
+              size: this.itemsPerPage,
+              sort: this.sort(),
+            }
+      )
       .subscribe({
         next: (res: HttpResponse<IRecipes[]>) => {
           this.isLoading = false;
@@ -55,6 +65,7 @@ export class RecipesComponent implements OnInit {
 
   reset(): void {
     this.page = 0;
+    this.cursors = {};
     this.recipes = [];
     this.loadAll();
   }
@@ -64,6 +75,14 @@ export class RecipesComponent implements OnInit {
     this.loadAll();
   }
 
+  loadNextPage(): void {
+    this.loadPage(this.page + 1);
+  }
+
+  hasNextPage(): boolean {
+    return this.isCursorPaging() ? this.cursors.next !== undefined : this.page < this.links['last'];
+  }
+
   ngOnInit(): void {
     this.loadAll();
   }
@@ -83,6 +102,14 @@ export class RecipesComponent implements OnInit {
     });
   }
 
+  /**
+   * Sorting by id uses the keyset (cursor) pagination of the server, which does not slow down on deep pages.
+   * Sorting by any other column falls back to offset pagination.
+   */
+  protected isCursorPaging(): boolean {
+    return this.predicate === 'id';
+  }
+
   protected sort(): string[] {
     const result = [this.predicate + ',' + (this.ascending ? ASC : DESC)];
     if (this.predicate !== 'id') {
@@ -95,10 +122,12 @@ export class RecipesComponent implements OnInit {
     const linkHeader = headers.get('link');
     if (linkHeader) {
       this.links = this.parseLinks.parse(linkHeader);
+      this.cursors = this.parseLinks.parseCursors(linkHeader);
     } else {
       this.links = {
         last: 0,
       };
+      this.cursors = {};
     }
     if (data) {
       for (const d of data) {
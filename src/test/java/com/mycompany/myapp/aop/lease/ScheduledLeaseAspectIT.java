@@ -0,0 +1,179 @@
+package com.mycompany.myapp.aop.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Integration tests for {@link ScheduledLeaseAspect}, with two application contexts sharing the database of the
+ * application as two instances of the application would.
+ */
+@IntegrationTest
+class ScheduledLeaseAspectIT {
+
+    private static final String LEASE_NAME = "lease-test-job";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private AnnotationConfigApplicationContext node1;
+
+    private AnnotationConfigApplicationContext node2;
+
+    @BeforeEach
+    public void startNodes() {
+        node1 = startNode();
+        node2 = startNode();
+    }
+
+    @AfterEach
+    public void stopNodes() {
+        // Whichever node holds the lease, it must not be kept for the next test
+        node1.getBean(LeaseStore.class).release(LEASE_NAME, Instant.now());
+        node2.getBean(LeaseStore.class).release(LEASE_NAME, Instant.now());
+        node1.close();
+        node2.close();
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext node = new AnnotationConfigApplicationContext();
+        // Not the application DataSource itself, which would be closed with the context
+        node.registerBean(DataSource.class, () -> new DelegatingDataSource(dataSource));
+        node.register(NodeConfiguration.class);
+        node.refresh();
+        return node;
+    }
+
+    @Test
+    void onlyOneNodeRunsTheJobAtATime() throws Exception {
+        Job job1 = node1.getBean(Job.class);
+        Job job2 = node2.getBean(Job.class);
+        job1.hold();
+
+        CompletableFuture<Void> run1 = CompletableFuture.runAsync(job1::run);
+        assertThat(job1.awaitStarted()).isTrue();
+        job2.run();
+        job1.finish();
+        run1.get(10, TimeUnit.SECONDS);
+
+        assertThat(job1.getRuns()).isEqualTo(1);
+        assertThat(job2.getRuns()).isZero();
+        assertThat(meterRegistry(node2).get(ScheduledLeaseAspect.SKIPPED_METER_NAME).tag("name", LEASE_NAME).counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry(node1).get(ScheduledLeaseAspect.HELD_METER_NAME).tag("name", LEASE_NAME).timer().count()).isEqualTo(1);
+
+        // The second node, whose clock is late, fires the same run once the first node is done
+        job2.run();
+
+        assertThat(job2.getRuns()).isZero();
+        assertThat(meterRegistry(node2).get(ScheduledLeaseAspect.SKIPPED_METER_NAME).tag("name", LEASE_NAME).counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void anExpiredLeaseIsTakenOver() throws Exception {
+        Instant now = Instant.now();
+        // The first node died while holding the lease
+        assertThat(node1.getBean(LeaseStore.class).acquire(LEASE_NAME, now, now.plus(2, ChronoUnit.SECONDS))).isTrue();
+        Job job2 = node2.getBean(Job.class);
+
+        job2.run();
+        assertThat(job2.getRuns()).isZero();
+
+        Thread.sleep(2500);
+        job2.run();
+        assertThat(job2.getRuns()).isEqualTo(1);
+    }
+
+    private static MeterRegistry meterRegistry(AnnotationConfigApplicationContext node) {
+        return node.getBean(MeterRegistry.class);
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class NodeConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public LeaseStore leaseStore(DataSource dataSource) {
+            return new LeaseStore(dataSource, new DataSourceTransactionManager(dataSource));
+        }
+
+        @Bean
+        public ScheduledLeaseAspect scheduledLeaseAspect(LeaseStore leaseStore, MeterRegistry meterRegistry) {
+            return new ScheduledLeaseAspect(leaseStore, meterRegistry);
+        }
+
+        @Bean
+        public Job job() {
+            return new Job();
+        }
+    }
+
+    /**
+     * A job counting its runs, which can be held running. Its state is only reachable through methods, as the bean is a
+     * proxy.
+     */
+    static class Job {
+
+        private final AtomicInteger runs = new AtomicInteger();
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch finish = new CountDownLatch(1);
+
+        private volatile boolean hold;
+
+        @ScheduledLease(name = LEASE_NAME, holdAtLeastFor = "PT1M")
+        public void run() {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                if (hold) {
+                    finish.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public int getRuns() {
+            return runs.get();
+        }
+
+        public void hold() {
+            hold = true;
+        }
+
+        public boolean awaitStarted() throws InterruptedException {
+            return started.await(10, TimeUnit.SECONDS);
+        }
+
+        public void finish() {
+            finish.countDown();
+        }
+    }
+}
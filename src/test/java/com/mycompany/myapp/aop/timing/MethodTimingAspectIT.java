@@ -0,0 +1,56 @@
+package com.mycompany.myapp.aop.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.service.InvalidPasswordException;
+import com.mycompany.myapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link MethodTimingAspect}.
+ */
+@IntegrationTest
+@Transactional
+class MethodTimingAspectIT {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void callsAreTimed() {
+        long count = count("getAuthorities", "none");
+
+        userService.getAuthorities();
+
+        assertThat(count("getAuthorities", "none")).isEqualTo(count + 1);
+    }
+
+    @Test
+    @WithMockUser("admin")
+    void failedCallsAreTimedByException() {
+        long count = count("changePassword", "InvalidPasswordException");
+
+        assertThatThrownBy(() -> userService.changePassword("wrong-password", "new-password")).isInstanceOf(InvalidPasswordException.class);
+
+        assertThat(count("changePassword", "InvalidPasswordException")).isEqualTo(count + 1);
+        assertThat(count("changePassword", "none")).isZero();
+    }
+
+    private long count(String method, String exception) {
+        Timer timer = meterRegistry
+            .find(MethodTimingAspect.METER_NAME)
+            .tags("layer", "service", "class", "UserService", "method", method, "exception", exception)
+            .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
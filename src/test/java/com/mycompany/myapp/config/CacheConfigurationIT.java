@@ -0,0 +1,63 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CacheConfiguration}.
+ */
+@IntegrationTest
+@Transactional
+class CacheConfigurationIT {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void init() {
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    void assertThatEntityRegionsAreCreated() {
+        assertThat(cacheManager.getCacheNames())
+            .contains(
+                UserRepository.USERS_BY_LOGIN_CACHE,
+                UserRepository.USERS_BY_EMAIL_CACHE,
+                User.class.getName(),
+                User.class.getName() + ".authorities",
+                Authority.class.getName(),
+                Recipes.class.getName()
+            );
+    }
+
+    @Test
+    void assertThatUserByLoginIsCached() {
+        userRepository.findOneWithAuthoritiesByLogin("admin");
+
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get("admin")).isNotNull();
+    }
+
+    @Test
+    void assertThatCacheMetricsAreExposed() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", UserRepository.USERS_BY_LOGIN_CACHE).meters()).isNotEmpty();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", Recipes.class.getName()).meters()).isNotEmpty();
+    }
+}
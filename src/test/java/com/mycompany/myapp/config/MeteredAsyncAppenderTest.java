@@ -0,0 +1,122 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MeteredAsyncAppender} in front of an appender taking 20 ms per event.
+ */
+class MeteredAsyncAppenderTest {
+
+    private static final long SINK_MILLIS = 20;
+
+    private LoggerContext context;
+
+    private SlowAppender sink;
+
+    private MeteredAsyncAppender asyncAppender;
+
+    private Logger log;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        sink = new SlowAppender();
+        sink.setContext(context);
+        sink.start();
+        asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(32);
+        asyncAppender.setDiscardingThreshold(8);
+        asyncAppender.setMaxFlushTime(10_000);
+        asyncAppender.addAppender(sink);
+        asyncAppender.start();
+        log = context.getLogger(MeteredAsyncAppenderTest.class);
+        log.setLevel(Level.DEBUG);
+        log.addAppender(asyncAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    void loggingThreadsDoNotWaitForABlockedAppender() throws Exception {
+        int events = 200;
+        sink.gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> logging = executor.submit(() -> {
+            for (int i = 0; i < events; i++) {
+                log.info("Event {}", i);
+            }
+        });
+        try {
+            // Would time out if the logging thread waited for the blocked appender
+            logging.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The INFO events only fill the queue up to the discarding threshold, the worker holds at most one more event
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isLessThanOrEqualTo(32 - 8 + 1);
+        assertThat(asyncAppender.getDroppedEvents()).isGreaterThanOrEqualTo(events - (32 - 8 + 1) - 1);
+        sink.gate.countDown();
+        asyncAppender.stop();
+        assertThat(sink.events.get() + asyncAppender.getDroppedEvents()).isEqualTo(events);
+    }
+
+    @Test
+    void warnEventsAreNeverDropped() {
+        for (int i = 0; i < 50; i++) {
+            log.warn("Event {}", i);
+        }
+        asyncAppender.stop();
+
+        assertThat(asyncAppender.getDroppedEvents()).isZero();
+        assertThat(sink.events.get()).isEqualTo(50);
+    }
+
+    @Test
+    void debugEventsAreDroppedBeforeTheQueueIsFull() {
+        for (int i = 0; i < 50; i++) {
+            log.debug("Event {}", i);
+        }
+
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isLessThanOrEqualTo(32 - 8 + 1);
+        asyncAppender.stop();
+        assertThat(asyncAppender.getDroppedEvents()).isPositive();
+    }
+
+    private static class SlowAppender extends AppenderBase<ILoggingEvent> {
+
+        private final AtomicInteger events = new AtomicInteger();
+
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                gate.await();
+                Thread.sleep(SINK_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsConfigurationTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getMetrics().setMaxUriTags(10);
+        applicationProperties.getMetrics().setApiSlo(List.of(Duration.ofMillis(100), Duration.ofSeconds(1)));
+        applicationProperties.getMetrics().setDeniedMeters(List.of("jvm.buffer", "jvm.threads.peak"));
+        MetricsConfiguration metricsConfiguration = new MetricsConfiguration(applicationProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry
+            .config()
+            .meterFilter(metricsConfiguration.uriTagCardinalityMeterFilter())
+            .meterFilter(metricsConfiguration.apiSloMeterFilter())
+            .meterFilter(metricsConfiguration.deniedMetersMeterFilter());
+    }
+
+    @Test
+    void meterCountStaysBoundedUnderRandomUris() {
+        for (int i = 0; i < 1000; i++) {
+            request("/api/" + UUID.randomUUID(), "GET", "200");
+            request("/api/" + UUID.randomUUID(), "POST", "201");
+        }
+
+        assertThat(meterRegistry.find(MetricsConfiguration.HTTP_SERVER_REQUESTS).timers()).hasSize(10 + 2);
+        // With a gauge per SLO bucket of the API request timers
+        assertThat(meterRegistry.getMeters()).hasSize(10 * 3 + 2);
+        assertThat(meterRegistry.get(MetricsConfiguration.HTTP_SERVER_REQUESTS).tag("uri", "OTHER").timers())
+            .extracting(Timer::count)
+            .containsExactlyInAnyOrder(1000L - 5, 1000L - 5);
+    }
+
+    @Test
+    void knownUrisAreStillRecordedOnceTheLimitIsReached() {
+        request("/api/recipes", "GET", "200");
+        for (int i = 0; i < 20; i++) {
+            request("/api/" + UUID.randomUUID(), "GET", "200");
+        }
+
+        request("/api/recipes", "GET", "200");
+
+        assertThat(meterRegistry.get(MetricsConfiguration.HTTP_SERVER_REQUESTS).tag("uri", "/api/recipes").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void apiRequestTimersPublishTheSloBuckets() {
+        request("/api/recipes", "GET", "200");
+        request("/management/health", "GET", "200");
+
+        assertThat(histogram("/api/recipes")).extracting(CountAtBucket::bucket).containsExactly(100_000_000.0, 1_000_000_000.0);
+        assertThat(histogram("/management/health")).isEmpty();
+    }
+
+    @Test
+    void deniedMetersAreNotRegistered() {
+        new JvmMemoryMetrics().bindTo(meterRegistry);
+        new JvmThreadMetrics().bindTo(meterRegistry);
+
+        assertThat(meterRegistry.getMeters()).isNotEmpty();
+        assertThat(meterRegistry.find("jvm.memory.used").gauges()).isNotEmpty();
+        assertThat(meterRegistry.find("jvm.threads.live").gauges()).isNotEmpty();
+        assertThat(meterRegistry.getMeters())
+            .noneMatch(meter -> meter.getId().getName().startsWith("jvm.buffer"))
+            .noneMatch(meter -> meter.getId().getName().equals("jvm.threads.peak"));
+    }
+
+    private void request(String uri, String method, String status) {
+        Timer
+            .builder(MetricsConfiguration.HTTP_SERVER_REQUESTS)
+            .tags("uri", uri, "method", method, "status", status)
+            .register(meterRegistry)
+            .record(Duration.ofMillis(50));
+    }
+
+    private CountAtBucket[] histogram(String uri) {
+        return meterRegistry.get(MetricsConfiguration.HTTP_SERVER_REQUESTS).tag("uri", uri).timer().takeSnapshot().histogramCounts();
+    }
+}
@@ -0,0 +1,115 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link ReplicaDataSourceConfiguration}, with a second in-memory H2 database playing the replica:
+ * it is copied from the test database, then the first name of the admin is changed on the replica only, as if the
+ * replica lagged behind an update.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+        "application.datasource.replica.url=jdbc:h2:mem:bonita-replica;DB_CLOSE_DELAY=-1",
+        "application.datasource.replica.lag-query=select 0",
+        "application.search.reindex-on-startup=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    }
+)
+class ReplicaDataSourceConfigurationIT {
+
+    private static final String STALE_FIRST_NAME = "Stale";
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Cache usersByLoginCache;
+
+    @BeforeEach
+    void setUp() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("script nopasswords", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource))
+            .executeWithoutResult(status -> {
+                replica.execute("drop all objects");
+                script.forEach(replica::execute);
+                replica.update("update jhi_user set first_name = ? where login = 'admin'", STALE_FIRST_NAME);
+            });
+        replicaRoutingDataSource.checkReplicaLag();
+        usersByLoginCache = cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE);
+        usersByLoginCache.clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void readOnlyTransactionsReadTheReplica() {
+        assertThat(replicaRoutingDataSource.isReplicaUsable()).isTrue();
+        assertThat(inTransaction(true, userRepository::findOneByLogin).getFirstName()).isEqualTo(STALE_FIRST_NAME);
+        assertThat(inTransaction(false, userRepository::findOneByLogin).getFirstName()).isNotEqualTo(STALE_FIRST_NAME);
+    }
+
+    @Test
+    void usersReadOnTheReplicaAreNotCached() {
+        User user = inTransaction(true, userRepository::findOneWithAuthoritiesByLogin);
+
+        assertThat(user.getFirstName()).isEqualTo(STALE_FIRST_NAME);
+        assertThat(usersByLoginCache.get("admin")).isNull();
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+
+        user = inTransaction(false, userRepository::findOneWithAuthoritiesByLogin);
+
+        assertThat(user.getFirstName()).isNotEqualTo(STALE_FIRST_NAME);
+        assertThat(usersByLoginCache.get("admin")).isNotNull();
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+    }
+
+    @Test
+    void cachedUsersAreReadInReadOnlyTransactions() {
+        inTransaction(false, userRepository::findOneWithAuthoritiesByLogin);
+
+        assertThat(inTransaction(true, userRepository::findOneWithAuthoritiesByLogin).getFirstName()).isNotEqualTo(STALE_FIRST_NAME);
+    }
+
+    private User inTransaction(boolean readOnly, Function<String, Optional<User>> query) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> query.apply("admin")).orElseThrow();
+    }
+}
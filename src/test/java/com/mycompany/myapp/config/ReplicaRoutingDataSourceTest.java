@@ -0,0 +1,141 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link ReplicaRoutingDataSource}, with two in-memory H2 databases playing the primary and the replica.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select lag from replication_lag";
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        replica.execute("create table replication_lag (lag double)");
+        replica.update("insert into replication_lag values (0)");
+        routingDataSource =
+            new ReplicaRoutingDataSource(primary.getDataSource(), replica.getDataSource(), LAG_QUERY, Duration.ofSeconds(10));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("shutdown");
+        replica.execute("shutdown");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToThePrimaryUntilTheLagIsChecked() {
+        assertThat(routingDataSource.isReplicaUsable()).isFalse();
+        assertThat(routingDataSource.getLagSeconds()).isNaN();
+        assertThat(database(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        routingDataSource.checkReplicaLag();
+
+        assertThat(routingDataSource.isReplicaUsable()).isTrue();
+        assertThat(routingDataSource.getLagSeconds()).isZero();
+        assertThat(database(true)).isEqualTo("replica");
+        assertThat(database(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsGoBackToThePrimaryWhenTheReplicaLags() {
+        routingDataSource.checkReplicaLag();
+        replica.update("update replication_lag set lag = 10.5");
+
+        routingDataSource.checkReplicaLag();
+
+        assertThat(routingDataSource.isReplicaUsable()).isFalse();
+        assertThat(routingDataSource.getLagSeconds()).isEqualTo(10.5);
+        assertThat(database(true)).isEqualTo("primary");
+
+        replica.update("update replication_lag set lag = 1");
+        routingDataSource.checkReplicaLag();
+
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransactionsGoBackToThePrimaryWhenTheReplicaIsDown() {
+        routingDataSource.checkReplicaLag();
+        replica.execute("drop table replication_lag");
+
+        routingDataSource.checkReplicaLag();
+
+        assertThat(routingDataSource.isReplicaUsable()).isFalse();
+        assertThat(routingDataSource.getLagSeconds()).isNaN();
+        assertThat(database(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void transactionsSentToTheReplicaAreMarked() {
+        AtomicInteger callbacks = new AtomicInteger();
+        routingDataSource.setReplicaTransactionCallback(callbacks::incrementAndGet);
+        routingDataSource.checkReplicaLag();
+
+        transactionTemplate.setReadOnly(true);
+        Boolean marked = transactionTemplate.execute(status -> markedAfterTwoQueries());
+
+        assertThat(marked).isTrue();
+        assertThat(ReplicaRoutingDataSource.isCurrentTransactionOnReplica()).isFalse();
+        assertThat(callbacks).hasValue(1);
+
+        transactionTemplate.setReadOnly(false);
+        marked = transactionTemplate.execute(status -> markedAfterTwoQueries());
+
+        assertThat(marked).isFalse();
+        assertThat(callbacks).hasValue(1);
+    }
+
+    private boolean markedAfterTwoQueries() {
+        jdbcTemplate.queryForObject("select name from database_name", String.class);
+        jdbcTemplate.queryForObject("select name from database_name", String.class);
+        return ReplicaRoutingDataSource.isCurrentTransactionOnReplica();
+    }
+
+    /**
+     * @return the name of the database serving a transaction.
+     */
+    private String database(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from database_name", String.class));
+    }
+
+    private static JdbcTemplate database(String name) {
+        JdbcTemplate database = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:replica-routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        database.execute("create table database_name (name varchar(10))");
+        database.update("insert into database_name values (?)", name);
+        return database;
+    }
+}
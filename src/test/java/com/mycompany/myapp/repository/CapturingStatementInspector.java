@@ -0,0 +1,42 @@
+package com.mycompany.myapp.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Hibernate {@link StatementInspector} of the tests, capturing the SQL statements Hibernate generates on the current
+ * thread while {@link #capture(Executable)} runs.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Run an action and capture the SQL statements it executes.
+     *
+     * @param action the action.
+     * @return the captured SQL statements, in execution order.
+     * @throws Throwable the exception thrown by the action.
+     */
+    public static List<String> capture(Executable action) throws Throwable {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.execute();
+            return statements;
+        } finally {
+            CAPTURED.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.BonitaApp;
+import com.mycompany.myapp.domain.Comment;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures the throughput of inserting comments from many threads at once, which is bound by the id generation when all
+ * the entities share a single sequence.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=CommentInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class CommentInsertBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private CommentRepository commentRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BonitaApp.class).properties("server.port=0").run();
+        commentRepository = context.getBean(CommentRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long insertComment() {
+        return transactionTemplate.execute(status -> commentRepository.save(new Comment().commentContent("Benchmark comment")).getId());
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking that the main queries on {@link RecipesRepository} and {@link CommentRepository} are
+ * served by an index, using the {@code EXPLAIN} output of the test database for the SQL generated by Hibernate, as
+ * captured by {@link CapturingStatementInspector}.
+ */
+@IntegrationTest
+@Transactional
+class QueryPlanIT {
+
+    @Autowired
+    private RecipesRepository recipesRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @WithMockUser("admin")
+    void testRecipesOfCurrentUserUseIndex() throws Throwable {
+        String plan = explain(CapturingStatementInspector.capture(() -> recipesRepository.findByUserIsCurrentUser()), "admin");
+
+        // H2 also indexes the foreign keys on its own, and prefers that narrower index when the query reads the rows anyway
+        String userIdIndex = isH2() ? "fk_recipes__user_id" : "idx_recipes__user_id_id";
+        assertThat(plan).containsIgnoringCase("ux_user_login").containsIgnoringCase(userIdIndex);
+        assertNoTableScan(plan);
+    }
+
+    @Test
+    void testCommentsOfRecipeKeysetPageUsesIndex() throws Throwable {
+        String plan = explain(
+            CapturingStatementInspector.capture(() ->
+                commentRepository.findAllDtosByRecipesIdAndIdGreaterThan(1L, 1000L, PageRequest.of(0, 20, Sort.by("id")))
+            ),
+            1L,
+            1000L,
+            20
+        );
+
+        assertThat(plan).containsIgnoringCase("idx_comment__recipes_id_id");
+        assertNoTableScan(plan);
+    }
+
+    private String explain(List<String> statements, Object... parameters) {
+        assertThat(statements).hasSize(1);
+        return String.join("\n", jdbcTemplate.queryForList("explain " + statements.get(0), String.class, parameters));
+    }
+
+    private void assertNoTableScan(String plan) {
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").doesNotContainIgnoringCase("Seq Scan");
+    }
+
+    private boolean isH2() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "H2".equals(database);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.BonitaApp;
+import com.mycompany.myapp.domain.Recipes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures the paging queries of the {@link RecipesRepository} against the in-memory H2 test database: offset pages,
+ * which also count the rows, against keyset pages seeking on the id.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=RecipesRepositoryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipesRepositoryBenchmark {
+
+    private static final int ROWS = 10000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final long FIRST_ID = 1_000_000;
+
+    @Param({ "0", "250" })
+    private int page;
+
+    private ConfigurableApplicationContext context;
+
+    private RecipesRepository recipesRepository;
+
+    private Pageable offsetPage;
+
+    private Pageable keysetPage;
+
+    private long lastIdOfPreviousPage;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BonitaApp.class).properties("server.port=0").run();
+        recipesRepository = context.getBean(RecipesRepository.class);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long id = FIRST_ID; id < FIRST_ID + ROWS; id++) {
+            rows.add(new Object[] { id, "Recipe " + id, "Author " + id });
+        }
+        context
+            .getBean(JdbcTemplate.class)
+            .batchUpdate("insert into recipes (id, recipes_name, recipes_author) values (?, ?, ?)", rows);
+        offsetPage = PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+        keysetPage = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        lastIdOfPreviousPage = FIRST_ID + (long) page * PAGE_SIZE - 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Recipes> findAllOffsetPage() {
+        return recipesRepository.findAll(offsetPage);
+    }
+
+    @Benchmark
+    public Slice<Recipes> findAllKeysetPage() {
+        return recipesRepository.findAllByIdGreaterThan(lastIdOfPreviousPage, keysetPage);
+    }
+}
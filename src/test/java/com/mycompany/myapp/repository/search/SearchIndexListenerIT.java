@@ -0,0 +1,72 @@
+package com.mycompany.myapp.repository.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.repository.CommentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link SearchIndexListener}.
+ */
+@IntegrationTest
+class SearchIndexListenerIT {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentSearchRepository commentSearchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Comment comment;
+
+    @AfterEach
+    public void cleanup() {
+        if (comment != null && commentRepository.existsById(comment.getId())) {
+            commentRepository.deleteById(comment.getId());
+        }
+    }
+
+    @Test
+    void testIndexIsUpdatedOnCommit() {
+        comment = transactionTemplate.execute(status -> commentRepository.save(new Comment().commentContent("Needs more saffron")));
+
+        assertThat(commentSearchRepository.search("saffron", PageRequest.of(0, 20))).containsExactly(comment.getId());
+
+        transactionTemplate.execute(status -> {
+            Comment existingComment = commentRepository.findById(comment.getId()).orElseThrow();
+            existingComment.setCommentContent("Needs more paprika");
+            return existingComment;
+        });
+
+        assertThat(commentSearchRepository.search("saffron", PageRequest.of(0, 20))).isEmpty();
+        assertThat(commentSearchRepository.search("paprika", PageRequest.of(0, 20))).containsExactly(comment.getId());
+
+        transactionTemplate.executeWithoutResult(status -> commentRepository.deleteById(comment.getId()));
+
+        assertThat(commentSearchRepository.search("paprika", PageRequest.of(0, 20))).isEmpty();
+        assertThat(meterRegistry.get(SearchIndex.QUERY_METER_NAME).tag(SearchIndex.TYPE_DIMENSION, "comment").timer().count()).isPositive();
+    }
+
+    @Test
+    void testIndexIsNotUpdatedOnRollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.save(new Comment().commentContent("Needs more cardamom"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(commentSearchRepository.search("cardamom", PageRequest.of(0, 20))).isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Test class for the {@link BCryptStrengthPasswordEncoder}.
+ */
+class BCryptStrengthPasswordEncoderTest {
+
+    private final BCryptStrengthPasswordEncoder passwordEncoder = new BCryptStrengthPasswordEncoder(5);
+
+    @Test
+    void testUpgradeWeakerHash() {
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    }
+
+    @Test
+    void testUpgradeStrongerHash() {
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))).isTrue();
+    }
+
+    @Test
+    void testKeepHashWithSameStrength() {
+        String encodedPassword = passwordEncoder.encode("password");
+
+        assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isFalse();
+        assertThat(passwordEncoder.matches("password", encodedPassword)).isTrue();
+    }
+
+    @Test
+    void testKeepEmptyHash() {
+        assertThat(passwordEncoder.upgradeEncoding("")).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+    }
+}
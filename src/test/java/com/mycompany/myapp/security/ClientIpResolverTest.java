@@ -0,0 +1,76 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Test class for the {@link ClientIpResolver}.
+ */
+class ClientIpResolverTest {
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+    }
+
+    @Test
+    void testForwardedForIsIgnoredWithoutTrustedProxies() {
+        ClientIpResolver resolver = new ClientIpResolver(applicationProperties);
+
+        assertThat(resolver.resolve(request("10.0.0.1", "203.0.113.7"))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void testForwardedForIsIgnoredFromUntrustedAddress() {
+        trustProxies("10.0.0.0/8");
+        ClientIpResolver resolver = new ClientIpResolver(applicationProperties);
+
+        assertThat(resolver.resolve(request("198.51.100.2", "203.0.113.7"))).isEqualTo("198.51.100.2");
+    }
+
+    @Test
+    void testClientBehindTrustedProxy() {
+        trustProxies("10.0.0.0/8");
+        ClientIpResolver resolver = new ClientIpResolver(applicationProperties);
+
+        assertThat(resolver.resolve(request("10.0.0.1", "203.0.113.7"))).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("10.0.0.1", null))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void testClientBehindSeveralTrustedProxies() {
+        trustProxies("10.0.0.0/8", "192.0.2.10");
+        ClientIpResolver resolver = new ClientIpResolver(applicationProperties);
+
+        assertThat(resolver.resolve(request("10.0.0.1", "203.0.113.7, 192.0.2.10, 10.1.2.3"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void testSpoofedForwardedForIsIgnored() {
+        trustProxies("10.0.0.0/8");
+        ClientIpResolver resolver = new ClientIpResolver(applicationProperties);
+
+        assertThat(resolver.resolve(request("10.0.0.1", "1.2.3.4, 203.0.113.7"))).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("10.0.0.1", "not-an-address, 203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+
+    private void trustProxies(String... trustedProxies) {
+        applicationProperties.getSecurity().getLoginRateLimit().setTrustedProxies(List.of(trustedProxies));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(ClientIpResolver.X_FORWARDED_FOR, forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Test class for the {@link LoginAttemptLimiter}.
+ */
+class LoginAttemptLimiterTest {
+
+    private static final String REJECTED_LOGINS_METER_EXPECTED_NAME = "security.authentication.rejected-logins";
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Security.LoginRateLimit loginRateLimit = applicationProperties.getSecurity().getLoginRateLimit();
+        loginRateLimit.getPerLogin().setCapacity(3);
+        loginRateLimit.getPerLogin().setRefillPeriod(Duration.ofSeconds(30));
+        loginRateLimit.getPerIp().setCapacity(5);
+        loginRateLimit.getPerIp().setRefillPeriod(Duration.ofSeconds(60));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testRejectsLoginOnceItsBucketIsEmpty() {
+        LoginAttemptLimiter limiter = createLimiter();
+
+        for (int i = 0; i < 3; i++) {
+            String ipAddress = "10.0.0." + i;
+            assertThatCode(() -> limiter.checkAttempt("user", ipAddress)).doesNotThrowAnyException();
+        }
+
+        assertThatThrownBy(() -> limiter.checkAttempt("USER", "10.0.0.9"))
+            .isInstanceOf(TooManyLoginAttemptsException.class)
+            .extracting("retryAfterSeconds")
+            .isEqualTo(10L);
+        assertThat(meterRegistry.get(REJECTED_LOGINS_METER_EXPECTED_NAME).tag("limit", "login").counter().count()).isEqualTo(1);
+        assertThatCode(() -> limiter.checkAttempt("other-user", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testRejectsIpAddressOnceItsBucketIsEmpty() {
+        LoginAttemptLimiter limiter = createLimiter();
+
+        for (int i = 0; i < 5; i++) {
+            String login = "user-" + i;
+            assertThatCode(() -> limiter.checkAttempt(login, "10.0.0.1")).doesNotThrowAnyException();
+        }
+
+        assertThatThrownBy(() -> limiter.checkAttempt("user-5", "10.0.0.1")).isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThat(meterRegistry.get(REJECTED_LOGINS_METER_EXPECTED_NAME).tag("limit", "ip").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(REJECTED_LOGINS_METER_EXPECTED_NAME).tag("limit", "login").counter().count()).isZero();
+        assertThatCode(() -> limiter.checkAttempt("user-5", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testRefillsBucketOverTime() {
+        LoginAttemptLimiter limiter = createLimiter();
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAttempt("user", "10.0.0.1");
+        }
+        assertThatThrownBy(() -> limiter.checkAttempt("user", "10.0.0.1")).isInstanceOf(TooManyLoginAttemptsException.class);
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThatCode(() -> limiter.checkAttempt("user", "10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> limiter.checkAttempt("user", "10.0.0.1")).isInstanceOf(TooManyLoginAttemptsException.class);
+    }
+
+    @Test
+    void testAcceptsEverythingWhenDisabled() {
+        applicationProperties.getSecurity().getLoginRateLimit().setEnabled(false);
+        LoginAttemptLimiter limiter = createLimiter();
+
+        for (int i = 0; i < 10; i++) {
+            assertThatCode(() -> limiter.checkAttempt("user", "10.0.0.1")).doesNotThrowAnyException();
+        }
+    }
+
+    private LoginAttemptLimiter createLimiter() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(applicationProperties, new SecurityMetersService(meterRegistry));
+        ReflectionTestUtils.setField(limiter, "nanoClock", (LongSupplier) now::get);
+        return limiter;
+    }
+}
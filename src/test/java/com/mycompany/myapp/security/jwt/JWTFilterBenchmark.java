@@ -0,0 +1,81 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Measures the cost of authenticating a request through {@link JWTFilter}, with and without the validated token cache.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=JWTFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean tokenCacheEnabled;
+
+    private JWTFilter jwtFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties
+            .getSecurity()
+            .getAuthentication()
+            .getJwt()
+            .setBase64Secret("fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8");
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setTokenValidityInSeconds(3600);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        if (!tokenCacheEnabled) {
+            applicationProperties.getSecurity().getTokenCache().setMaxEntries(0);
+        }
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            applicationProperties,
+            new SecurityMetersService(new SimpleMeterRegistry())
+        );
+        jwtFilter = new JWTFilter(tokenProvider);
+
+        String jwt = tokenProvider.createToken(
+            new UsernamePasswordAuthenticationToken(
+                "benchmark-user",
+                "benchmark-password",
+                Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+            ),
+            false
+        );
+        request = new MockHttpServletRequest();
+        request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+        request.setRequestURI("/api/recipes");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticateRequest(Blackhole blackhole) throws Exception {
+        FilterChain filterChain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        jwtFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Measures the cost of creating and reading JWT tokens with the {@link TokenProvider}, with and without the validated token
+ * cache.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=TokenProviderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean tokenCacheEnabled;
+
+    private TokenProvider tokenProvider;
+
+    private Authentication authentication;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties
+            .getSecurity()
+            .getAuthentication()
+            .getJwt()
+            .setBase64Secret("fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8");
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setTokenValidityInSeconds(3600);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        if (!tokenCacheEnabled) {
+            applicationProperties.getSecurity().getTokenCache().setMaxEntries(0);
+        }
+        tokenProvider = new TokenProvider(jHipsterProperties, applicationProperties, new SecurityMetersService(new SimpleMeterRegistry()));
+        authentication =
+            new UsernamePasswordAuthenticationToken(
+                "benchmark-user",
+                "benchmark-password",
+                List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER), new SimpleGrantedAuthority(AuthoritiesConstants.CHEF))
+            );
+        token = tokenProvider.createToken(authentication, false);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication, false);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Optional<Authentication> authenticate() {
+        return tokenProvider.authenticate(token);
+    }
+}
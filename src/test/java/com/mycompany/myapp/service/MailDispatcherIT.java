@@ -0,0 +1,151 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.OutboxMail;
+import com.mycompany.myapp.repository.OutboxMailRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Properties;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for {@link MailDispatcher}, delivering to an in-process SMTP server.
+ */
+@IntegrationTest
+@Transactional
+class MailDispatcherIT {
+
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SmtpServerStub smtpServer;
+
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        outboxMailRepository.deleteAll();
+        smtpServer = new SmtpServerStub();
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(smtpServer.getPort());
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.setProperty("mail.smtp.connectiontimeout", "5000");
+        javaMailProperties.setProperty("mail.smtp.timeout", "5000");
+        javaMailSender.setJavaMailProperties(javaMailProperties);
+        mailDispatcher = new MailDispatcher(outboxMailRepository, javaMailSender, jHipsterProperties, applicationProperties, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    void dispatchSendsTheBatchOverOneConnection() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            queue("user" + i + "@localhost");
+        }
+
+        mailDispatcher.dispatch();
+
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+        assertThat(smtpServer.getMessages()).extracting(MimeMessage::getSubject).containsExactly("subject", "subject", "subject");
+        assertThat(smtpServer.getMessages().get(0).getAllRecipients()[0]).hasToString("user0@localhost");
+        assertThat(outboxMailRepository.count()).isZero();
+        assertThat(meterRegistry.get(MailDispatcher.DELIVERIES_METER).tag("result", "sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(MailDispatcher.PENDING_METER).gauge().value()).isZero();
+    }
+
+    @Test
+    void dispatchOpensOneConnectionPerBatch() {
+        applicationProperties.getMail().getOutbox().setBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            queue("user" + i + "@localhost");
+        }
+
+        mailDispatcher.dispatch();
+
+        assertThat(smtpServer.getConnections()).isEqualTo(3);
+        assertThat(smtpServer.getMessages()).hasSize(5);
+        assertThat(outboxMailRepository.count()).isZero();
+    }
+
+    @Test
+    void dispatchSkipsTheEmailsNotDueYet() {
+        OutboxMail mail = queue("user@localhost");
+        mail.setNextAttemptDate(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        mailDispatcher.dispatch();
+
+        assertThat(smtpServer.getConnections()).isZero();
+        assertThat(meterRegistry.get(MailDispatcher.PENDING_METER).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchRetriesWithBackoffWhenTheServerIsDown() throws Exception {
+        OutboxMail mail = queue("user@localhost");
+        mail.setAttempts(2);
+        smtpServer.close();
+        Instant before = Instant.now();
+
+        mailDispatcher.dispatch();
+
+        OutboxMail retried = outboxMailRepository.findById(mail.getId()).orElseThrow();
+        assertThat(retried.getAttempts()).isEqualTo(3);
+        assertThat(retried.getLastError()).isNotBlank();
+        // The initial backoff of 1 minute doubled twice
+        assertThat(retried.getNextAttemptDate()).isBetween(before.plus(4, ChronoUnit.MINUTES), Instant.now().plus(4, ChronoUnit.MINUTES));
+        assertThat(meterRegistry.get(MailDispatcher.DELIVERIES_METER).tag("result", "retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MailDispatcher.PENDING_METER).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchAbandonsAfterTheLastAttempt() throws Exception {
+        OutboxMail mail = queue("user@localhost");
+        mail.setAttempts(applicationProperties.getMail().getOutbox().getMaxAttempts() - 1);
+        smtpServer.close();
+
+        mailDispatcher.dispatch();
+
+        assertThat(outboxMailRepository.findById(mail.getId()).orElseThrow().getNextAttemptDate()).isNull();
+        assertThat(meterRegistry.get(MailDispatcher.DELIVERIES_METER).tag("result", "abandoned").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MailDispatcher.PENDING_METER).gauge().value()).isZero();
+        assertThat(meterRegistry.get(MailDispatcher.ABANDONED_METER).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void backoffIsCapped() {
+        applicationProperties.getMail().getOutbox().setInitialBackoff(Duration.ofMinutes(1));
+        applicationProperties.getMail().getOutbox().setMaxBackoff(Duration.ofHours(6));
+
+        assertThat(mailDispatcher.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(mailDispatcher.backoff(9)).isEqualTo(Duration.ofMinutes(256));
+        assertThat(mailDispatcher.backoff(10)).isEqualTo(Duration.ofHours(6));
+        assertThat(mailDispatcher.backoff(Integer.MAX_VALUE)).isEqualTo(Duration.ofHours(6));
+    }
+
+    private OutboxMail queue(String recipient) {
+        return outboxMailRepository.save(new OutboxMail().recipient(recipient).subject("subject").content("content"));
+    }
+}
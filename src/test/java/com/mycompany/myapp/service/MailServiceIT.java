@@ -5,8 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.OutboxMail;
 import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.OutboxMailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -29,15 +33,17 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
-import org.springframework.mail.MailSendException;
+import org.springframework.mail.MailAuthenticationException;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import tech.jhipster.config.JHipsterProperties;
 
 /**
- * Integration tests for {@link MailService}.
+ * Integration tests for {@link MailService}, the queued emails are delivered by a {@link MailDispatcher}.
  */
 @IntegrationTest
+@Transactional
 class MailServiceIT {
 
     private static final String[] languages = {
@@ -56,6 +62,12 @@ class MailServiceIT {
     @Autowired
     private SpringTemplateEngine templateEngine;
 
+    @Autowired
+    private OutboxMailRepository outboxMailRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Spy
     private JavaMailSenderImpl javaMailSender;
 
@@ -64,17 +76,23 @@ class MailServiceIT {
 
     private MailService mailService;
 
+    private MailDispatcher mailDispatcher;
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
-        doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine);
+        doNothing().when(javaMailSender).send(new MimeMessage[] { any(MimeMessage.class) });
+        outboxMailRepository.deleteAll();
+        mailService = new MailService(jHipsterProperties, outboxMailRepository, messageSource, templateEngine);
+        mailDispatcher =
+            new MailDispatcher(outboxMailRepository, javaMailSender, jHipsterProperties, applicationProperties, new SimpleMeterRegistry());
     }
 
     @Test
     void testSendEmail() throws Exception {
         mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", false, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("karim.khoule@gmail.com");
@@ -87,7 +105,8 @@ class MailServiceIT {
     @Test
     void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", false, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("karim.khoule@gmail.com");
@@ -100,7 +119,8 @@ class MailServiceIT {
     @Test
     void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", true, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -117,7 +137,8 @@ class MailServiceIT {
     @Test
     void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", true, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -138,7 +159,8 @@ class MailServiceIT {
         user.setEmail("karim.khoule@gmail.com");
         user.setLangKey("en");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
@@ -154,7 +176,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("karim.khoule@gmail.com");
         mailService.sendActivationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -169,7 +192,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("karim.khoule@gmail.com");
         mailService.sendCreationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -184,7 +208,8 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("karim.khoule@gmail.com");
         mailService.sendPasswordResetMail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        mailDispatcher.dispatch();
+        verify(javaMailSender).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -194,12 +219,30 @@ class MailServiceIT {
 
     @Test
     void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
+        doThrow(new MailAuthenticationException("Authentication failed"))
+            .when(javaMailSender)
+            .send(new MimeMessage[] { any(MimeMessage.class) });
         try {
             mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", false, false);
+            mailDispatcher.dispatch();
         } catch (Exception e) {
             fail("Exception shouldn't have been thrown");
         }
+        assertThat(outboxMailRepository.findAll())
+            .singleElement()
+            .satisfies(mail -> {
+                assertThat(mail.getAttempts()).isEqualTo(1);
+                assertThat(mail.getLastError()).isEqualTo("Authentication failed");
+            });
+    }
+
+    @Test
+    void testSendEmailIsQueued() {
+        mailService.sendEmail("karim.khoule@gmail.com", "testSubject", "testContent", false, false);
+        verifyNoInteractions(javaMailSender);
+        assertThat(outboxMailRepository.findAll()).extracting(OutboxMail::getRecipient).containsExactly("karim.khoule@gmail.com");
+        mailDispatcher.dispatch();
+        assertThat(outboxMailRepository.count()).isZero();
     }
 
     @Test
@@ -210,7 +253,8 @@ class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-            verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
+            mailDispatcher.dispatch();
+            verify(javaMailSender, atLeastOnce()).send(new MimeMessage[] { messageCaptor.capture() });
             MimeMessage message = messageCaptor.getValue();
 
             String propertyFilePath = "i18n/messages_" + getJavaLocale(langKey) + ".properties";
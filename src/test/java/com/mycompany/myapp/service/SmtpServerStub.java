@@ -0,0 +1,113 @@
+package com.mycompany.myapp.service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * In-process SMTP server accepting every email, one connection at a time.
+ * <p>
+ * Only the commands sent by JavaMail without authentication nor TLS are supported.
+ */
+class SmtpServerStub implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final List<MimeMessage> messages = new CopyOnWriteArrayList<>();
+
+    SmtpServerStub() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread thread = new Thread(this::serve, "smtp-server-stub");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    List<MimeMessage> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void serve() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connections.incrementAndGet();
+                converse(
+                    new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)),
+                    new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)
+                );
+            } catch (IOException e) {
+                // The server socket is closed, or the client went away
+            }
+        }
+    }
+
+    private void converse(BufferedReader in, PrintWriter out) throws IOException {
+        reply(out, "220 localhost SMTP stub");
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.length() < 4 ? line : line.substring(0, 4).toUpperCase();
+            switch (command) {
+                case "DATA":
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    messages.add(readMessage(in));
+                    reply(out, "250 OK");
+                    break;
+                case "QUIT":
+                    reply(out, "221 Bye");
+                    return;
+                default:
+                    // EHLO, HELO, MAIL, RCPT, RSET and NOOP
+                    reply(out, "250 OK");
+            }
+        }
+    }
+
+    private MimeMessage readMessage(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !".".equals(line)) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        try {
+            return new MimeMessage(
+                Session.getInstance(new Properties()),
+                new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (MessagingException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    private static void reply(PrintWriter out, String reply) {
+        out.print(reply + "\r\n");
+        out.flush();
+    }
+}
@@ -4,15 +4,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.aop.lease.LeaseStore;
 import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.Authority;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
 import com.mycompany.myapp.service.dto.AdminUserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,7 @@ import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.security.RandomUtil;
 
@@ -53,6 +59,12 @@ class UserServiceIT {
     @Autowired
     private AuditingHandler auditingHandler;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LeaseStore leaseStore;
+
     @MockBean
     private DateTimeProvider dateTimeProvider;
 
@@ -72,6 +84,8 @@ class UserServiceIT {
 
         when(dateTimeProvider.getNow()).thenReturn(Optional.of(LocalDateTime.now()));
         auditingHandler.setDateTimeProvider(dateTimeProvider);
+        // The lease is kept for a while after each run, which would skip the runs of the next tests
+        leaseStore.release("remove-not-activated-users", Instant.now());
     }
 
     @Test
@@ -149,7 +163,7 @@ class UserServiceIT {
     }
 
     @Test
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void assertThatNotActivatedUsersWithNotNullActivationKeyCreatedBefore3DaysAreDeleted() {
         Instant now = Instant.now();
         when(dateTimeProvider.getNow()).thenReturn(Optional.of(now.minus(4, ChronoUnit.DAYS)));
@@ -167,7 +181,7 @@ class UserServiceIT {
     }
 
     @Test
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void assertThatNotActivatedUsersWithNullActivationKeyCreatedBefore3DaysAreNotDeleted() {
         Instant now = Instant.now();
         when(dateTimeProvider.getNow()).thenReturn(Optional.of(now.minus(4, ChronoUnit.DAYS)));
@@ -181,5 +195,39 @@ class UserServiceIT {
         userService.removeNotActivatedUsers();
         Optional<User> maybeDbUser = userRepository.findById(dbUser.getId());
         assertThat(maybeDbUser).contains(dbUser);
+
+        userRepository.delete(dbUser);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void assertThatNotActivatedUsersAreDeletedInChunks() {
+        Instant now = Instant.now();
+        when(dateTimeProvider.getNow()).thenReturn(Optional.of(now.minus(4, ChronoUnit.DAYS)));
+        Authority authority = new Authority();
+        authority.setName(AuthoritiesConstants.USER);
+        for (int i = 0; i < 5; i++) {
+            User staleUser = new User();
+            staleUser.setLogin("stale-user-" + i);
+            staleUser.setPassword(RandomStringUtils.random(60));
+            staleUser.setActivated(false);
+            staleUser.setActivationKey(RandomStringUtils.random(20));
+            staleUser.setAuthorities(Set.of(authority));
+            userRepository.saveAndFlush(staleUser);
+        }
+        user.setActivated(false);
+        user.setActivationKey(RandomStringUtils.random(20));
+        when(dateTimeProvider.getNow()).thenReturn(Optional.of(now));
+        User recentUser = userRepository.saveAndFlush(user);
+        double deletedBefore = meterRegistry.get(UserService.NOT_ACTIVATED_USERS_DELETED_METER_NAME).counter().count();
+
+        userService.removeNotActivatedUsers(2);
+
+        Instant threeDaysAgo = now.minus(3, ChronoUnit.DAYS);
+        assertThat(userRepository.findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(threeDaysAgo)).isEmpty();
+        assertThat(userRepository.findById(recentUser.getId())).isPresent();
+        assertThat(meterRegistry.get(UserService.NOT_ACTIVATED_USERS_DELETED_METER_NAME).counter().count() - deletedBefore).isEqualTo(5);
+
+        userRepository.delete(recentUser);
     }
 }
@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service.mapper;
+
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of mapping a page of users to DTOs with the {@link UserMapper}.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=UserMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({ "20", "100", "1000" })
+    private int size;
+
+    private UserMapper userMapper;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper();
+        Authority authority = new Authority();
+        authority.setName(AuthoritiesConstants.USER);
+        users = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setLogin("user-" + i);
+            user.setEmail("user-" + i + "@localhost");
+            user.setFirstName("first-" + i);
+            user.setLastName("last-" + i);
+            user.setActivated(true);
+            user.setLangKey("en");
+            user.setAuthorities(Set.of(authority));
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+}
@@ -1,21 +1,32 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.CommentRepository;
+import com.mycompany.myapp.repository.search.CommentSearchRepository;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -35,6 +46,8 @@ class CommentResourceIT {
 
     private static final String ENTITY_API_URL = "/api/comments";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+    private static final String ENTITY_BULK_API_URL = ENTITY_API_URL + "/_bulk";
+    private static final String ENTITY_SEARCH_API_URL = "/api/_search/comments";
 
     private static Random random = new Random();
     private static AtomicLong count = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
@@ -42,6 +55,9 @@ class CommentResourceIT {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private CommentSearchRepository commentSearchRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -93,6 +109,55 @@ class CommentResourceIT {
         assertThat(testComment.getCommentContent()).isEqualTo(DEFAULT_COMMENT_CONTENT);
     }
 
+    @Test
+    @Transactional
+    void createCommentsInBulk() throws Exception {
+        int databaseSizeBeforeCreate = commentRepository.findAll().size();
+        List<Comment> bulk = IntStream.range(0, 60).mapToObj(i -> createEntity(em).commentContent("Comment " + i)).collect(Collectors.toList());
+
+        // More comments than the JDBC batch size, so they are inserted in several chunks
+        restCommentMockMvc
+            .perform(post(ENTITY_BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(bulk)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(60))
+            .andExpect(jsonPath("$.[59].index").value(59))
+            .andExpect(jsonPath("$.[59].status").value(201))
+            .andExpect(jsonPath("$.[59].id").isNumber());
+
+        // Validate the Comment in the database
+        List<Comment> commentList = commentRepository.findAll();
+        assertThat(commentList).hasSize(databaseSizeBeforeCreate + 60);
+        assertThat(commentList).extracting(Comment::getCommentContent).contains("Comment 0", "Comment 59");
+    }
+
+    @Test
+    @Transactional
+    void createCommentsInBulkWithExistingId() throws Exception {
+        int databaseSizeBeforeCreate = commentRepository.findAll().size();
+        List<Comment> bulk = List.of(createEntity(em), createEntity(em).id(1L));
+
+        // A single invalid item rejects the whole request
+        restCommentMockMvc
+            .perform(post(ENTITY_BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(bulk)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items.[0].index").value(1))
+            .andExpect(jsonPath("$.items.[0].status").value(400))
+            .andExpect(jsonPath("$.items.[0].fieldErrors.[0].message").value("idexists"));
+
+        List<Comment> commentList = commentRepository.findAll();
+        assertThat(commentList).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createCommentsInBulkWithEmptyArray() throws Exception {
+        restCommentMockMvc
+            .perform(post(ENTITY_BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.bulksize"));
+    }
+
     @Test
     @Transactional
     void createCommentWithExistingId() throws Exception {
@@ -126,6 +191,247 @@ class CommentResourceIT {
             .andExpect(jsonPath("$.[*].commentContent").value(hasItem(DEFAULT_COMMENT_CONTENT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllCommentsStreamsMoreThanOneChunk() throws Exception {
+        // Initialize the database with more comments than fit in one streamed chunk
+        int databaseSizeBeforeTest = commentRepository.findAll().size();
+        for (int i = 0; i < 150; i++) {
+            commentRepository.save(createEntity(em));
+        }
+        commentRepository.flush();
+
+        // Get all the commentList
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.length()").value(databaseSizeBeforeTest + 150));
+    }
+
+    @Test
+    void getAllCommentsReadsEachChunkInItsOwnTransaction() throws Throwable {
+        // Initialize the database with more comments than fit in one streamed chunk, outside of a test transaction
+        List<Comment> comments = commentRepository.saveAll(
+            IntStream.range(0, 150).mapToObj(i -> createEntity(em)).collect(Collectors.toList())
+        );
+        try {
+            long databaseSize = commentRepository.count();
+            long expectedChunks = (databaseSize + 99) / 100;
+
+            // One transaction for the ETag fingerprint, one per streamed chunk, rather than one for the whole response
+            long transactions = TestUtil.countTransactions(
+                em,
+                () ->
+                    restCommentMockMvc
+                        .perform(get(ENTITY_API_URL))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(databaseSize))
+            );
+            assertThat(transactions).isEqualTo(1 + expectedChunks);
+        } finally {
+            commentRepository.deleteAllInBatch(comments);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllCommentsOfRecipesByCursor() throws Exception {
+        // Initialize the database
+        Recipes recipes = RecipesResourceIT.createEntity(em);
+        em.persist(recipes);
+        Comment first = commentRepository.saveAndFlush(createEntity(em).recipes(recipes));
+        Comment second = commentRepository.saveAndFlush(createEntity(em).recipes(recipes));
+        commentRepository.saveAndFlush(createEntity(em));
+
+        // Get the first page of the comments of the recipes, which links to the next one
+        restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments?size=1", recipes.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string(HttpHeaders.LINK, containsString(KeysetPaginationUtil.encodeCursor(first.getId()))))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue())));
+
+        // Get the last page
+        restCommentMockMvc
+            .perform(
+                get("/api/recipes/{id}/comments?after={cursor}&size=1", recipes.getId(), KeysetPaginationUtil.encodeCursor(first.getId()))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.[*].id").value(contains(second.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllCommentsWithFixedStatementCount() throws Throwable {
+        // Initialize the database with comments of distinct recipes and authors, so that loading them one by one would show
+        Recipes recipes = null;
+        for (int i = 0; i < 25; i++) {
+            User user = UserResourceIT.createEntity(em);
+            em.persist(user);
+            recipes = RecipesResourceIT.createEntity(em).user(user);
+            em.persist(recipes);
+            em.persist(createEntity(em).recipes(recipes));
+        }
+        for (int i = 0; i < 25; i++) {
+            em.persist(createEntity(em).recipes(recipes));
+        }
+        em.flush();
+        long expectedChunks = Math.max(1, (commentRepository.count() + 99) / 100);
+
+        em.clear();
+        // One query for the ETag fingerprint, one query per streamed chunk
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restCommentMockMvc
+                    .perform(get(ENTITY_API_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.[*].recipes.user.login").value(everyItem(notNullValue())))
+        );
+        assertThat(statements).isEqualTo(1 + expectedChunks);
+
+        for (int size : new int[] { 5, 20 }) {
+            em.clear();
+            // One query for the ETag fingerprint, one for the keyset page
+            Long recipesId = recipes.getId();
+            statements =
+                TestUtil.countStatements(
+                    em,
+                    () ->
+                        restCommentMockMvc
+                            .perform(get("/api/recipes/{id}/comments?size={size}", recipesId, size))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.length()").value(size))
+                            .andExpect(jsonPath("$.[*].recipes.recipesName").value(everyItem(notNullValue())))
+                );
+            assertThat(statements).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllCommentsOfRecipesWithETag() throws Throwable {
+        // Initialize the database
+        Recipes recipes = RecipesResourceIT.createEntity(em);
+        em.persist(recipes);
+        commentRepository.saveAndFlush(comment.recipes(recipes));
+
+        String eTag = restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments", recipes.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isEqualTo("\"comment-list-1-" + (comment.getVersion() + recipes.getVersion()) + "-" + comment.getId() + "-0\"");
+
+        // Only the fingerprint is read when nothing changed
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restCommentMockMvc
+                    .perform(get("/api/recipes/{id}/comments", recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""))
+        );
+        assertThat(statements).isEqualTo(1);
+
+        // A comment of another recipes doesn't change the ETag
+        commentRepository.saveAndFlush(createEntity(em));
+        restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments", recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // A new comment of the recipes does
+        commentRepository.saveAndFlush(createEntity(em).recipes(recipes));
+        restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments", recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @Transactional
+    void getCommentsWithETagOfTheRecipes() throws Exception {
+        // Initialize the database
+        Recipes recipes = RecipesResourceIT.createEntity(em);
+        em.persist(recipes);
+        commentRepository.saveAndFlush(comment.recipes(recipes));
+        String listETag = restCommentMockMvc.perform(get(ENTITY_API_URL)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String recipesListETag = restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments", recipes.getId()))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        String eTag = restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Rename the recipes, whose name is in the comments
+        recipes.setRecipesName("Renamed recipes");
+        em.flush();
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, listETag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].recipes.recipesName").value(hasItem("Renamed recipes")));
+        restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments", recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, recipesListETag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].recipes.recipesName").value(hasItem("Renamed recipes")));
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.recipes.recipesName").value("Renamed recipes"));
+    }
+
+    @Test
+    @Transactional
+    void getAllCommentsWithETag() throws Exception {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+
+        String eTag = restCommentMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Delete the comment
+        commentRepository.delete(comment);
+        commentRepository.flush();
+
+        restCommentMockMvc.perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getAllCommentsOfRecipesCapsPageSize() throws Exception {
+        // Initialize the database
+        Recipes recipes = RecipesResourceIT.createEntity(em);
+        em.persist(recipes);
+        for (int i = 0; i <= KeysetPaginationUtil.MAX_PAGE_SIZE; i++) {
+            commentRepository.save(createEntity(em).recipes(recipes));
+        }
+        commentRepository.flush();
+
+        restCommentMockMvc
+            .perform(get("/api/recipes/{id}/comments?size=1000", recipes.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(KeysetPaginationUtil.MAX_PAGE_SIZE));
+    }
+
     @Test
     @Transactional
     void getComment() throws Exception {
@@ -141,6 +447,35 @@ class CommentResourceIT {
             .andExpect(jsonPath("$.commentContent").value(DEFAULT_COMMENT_CONTENT.toString()));
     }
 
+    @Test
+    @Transactional
+    void getCommentWithETag() throws Exception {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        String eTag = "\"comment-" + comment.getId() + "-" + comment.getVersion() + "-0-0\"";
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Update the comment, which increments its version
+        Comment updatedComment = commentRepository.findById(comment.getId()).get();
+        updatedComment.setCommentContent(UPDATED_COMMENT_CONTENT);
+        commentRepository.saveAndFlush(updatedComment);
+
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.commentContent").value(UPDATED_COMMENT_CONTENT));
+    }
+
     @Test
     @Transactional
     void getNonExistingComment() throws Exception {
@@ -177,6 +512,132 @@ class CommentResourceIT {
         assertThat(testComment.getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
     }
 
+    @Test
+    @Transactional
+    void putCommentWithIfMatch() throws Throwable {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        Long version = comment.getVersion();
+        em.detach(comment);
+        comment.commentContent(UPDATED_COMMENT_CONTENT);
+
+        // The update is a single versioned statement, the comment is not read first, only the versions of its ETag
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restCommentMockMvc
+                    .perform(
+                        put(ENTITY_API_URL_ID, comment.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"comment-" + comment.getId() + "-" + version + "\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(TestUtil.convertObjectToJsonBytes(comment))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"comment-" + comment.getId() + "-" + (version + 1) + "-0-0\""))
+                    .andExpect(jsonPath("$.version").value(version + 1))
+        );
+        assertThat(statements).isEqualTo(2);
+        assertThat(commentRepository.findById(comment.getId()).get().getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
+    }
+
+    @Test
+    @Transactional
+    void putCommentThenGetIsNotModified() throws Exception {
+        // Initialize the database with a recipes, whose version is part of the ETag
+        Recipes recipes = RecipesResourceIT.createEntity(em);
+        em.persist(recipes);
+        commentRepository.saveAndFlush(comment.recipes(recipes));
+        em.detach(comment);
+        comment.commentContent(UPDATED_COMMENT_CONTENT);
+
+        String eTag = restCommentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, comment.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(comment))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // The ETag of the update response is the one of the updated comment
+        restCommentMockMvc
+            .perform(get(ENTITY_API_URL_ID, comment.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void putCommentWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        String staleETag = "\"comment-" + comment.getId() + "-" + comment.getVersion() + "\"";
+        commentRepository.saveAndFlush(comment.commentContent(UPDATED_COMMENT_CONTENT));
+        em.detach(comment);
+        comment.commentContent(DEFAULT_COMMENT_CONTENT);
+
+        restCommentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, comment.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(comment))
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value("error.concurrencyFailure"));
+
+        // Validate the Comment in the database
+        assertThat(commentRepository.findById(comment.getId()).get().getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
+    }
+
+    @Test
+    @Transactional
+    void putCommentWithStaleVersion() throws Exception {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        Long staleVersion = comment.getVersion();
+        commentRepository.saveAndFlush(comment.commentContent(UPDATED_COMMENT_CONTENT));
+        em.detach(comment);
+        comment.commentContent(DEFAULT_COMMENT_CONTENT).version(staleVersion);
+
+        // Without If-Match, the version in the body is checked
+        restCommentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, comment.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(comment))
+            )
+            .andExpect(status().isConflict());
+
+        // Validate the Comment in the database
+        assertThat(commentRepository.findById(comment.getId()).get().getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
+    }
+
+    @Test
+    @Transactional
+    void patchCommentWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        String staleETag = "\"comment-" + comment.getId() + "-" + (comment.getVersion() - 1) + "\"";
+
+        Comment partialUpdatedComment = new Comment();
+        partialUpdatedComment.setId(comment.getId());
+        partialUpdatedComment.commentContent(UPDATED_COMMENT_CONTENT);
+
+        restCommentMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedComment.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedComment))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        // Validate the Comment in the database
+        assertThat(commentRepository.findById(comment.getId()).get().getCommentContent()).isEqualTo(DEFAULT_COMMENT_CONTENT);
+    }
+
     @Test
     @Transactional
     void putNonExistingComment() throws Exception {
@@ -262,6 +723,42 @@ class CommentResourceIT {
         assertThat(testComment.getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
     }
 
+    @Test
+    @Transactional
+    void partialUpdateCommentWithSingleUpdate() throws Throwable {
+        // Initialize the database
+        commentRepository.saveAndFlush(comment);
+        Long version = comment.getVersion();
+        em.clear();
+
+        Comment partialUpdatedComment = new Comment();
+        partialUpdatedComment.setId(comment.getId());
+        partialUpdatedComment.commentContent(UPDATED_COMMENT_CONTENT);
+
+        // One statement to update the column, one to read the comment back, one to read the versions of its ETag
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restCommentMockMvc
+                    .perform(
+                        patch(ENTITY_API_URL_ID, partialUpdatedComment.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"comment-" + comment.getId() + "-" + version + "\"")
+                            .contentType("application/merge-patch+json")
+                            .content(TestUtil.convertObjectToJsonBytes(partialUpdatedComment))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"comment-" + comment.getId() + "-" + (version + 1) + "-0-0\""))
+                    .andExpect(jsonPath("$.commentContent").value(UPDATED_COMMENT_CONTENT))
+                    .andExpect(jsonPath("$.version").value(version + 1))
+        );
+        assertThat(statements).isEqualTo(3);
+
+        // Validate the Comment in the database
+        Comment testComment = commentRepository.findById(comment.getId()).get();
+        assertThat(testComment.getCommentContent()).isEqualTo(UPDATED_COMMENT_CONTENT);
+        assertThat(testComment.getVersion()).isEqualTo(version + 1);
+    }
+
     @Test
     @Transactional
     void fullUpdateCommentWithPatch() throws Exception {
@@ -364,4 +861,22 @@ class CommentResourceIT {
         List<Comment> commentList = commentRepository.findAll();
         assertThat(commentList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void searchComment() throws Exception {
+        // Initialize the database
+        comment.setCommentContent("Way too much cinnamon for my taste");
+        commentRepository.saveAndFlush(comment);
+        commentSearchRepository.index(comment);
+
+        // Search the comment
+        restCommentMockMvc
+            .perform(get(ENTITY_SEARCH_API_URL + "?q=cinnamon"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(comment.getId().intValue())))
+            .andExpect(jsonPath("$.[*].commentContent").value(hasItem("Way too much cinnamon for my taste")));
+    }
 }
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.domain.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the cost of serializing pages of {@link Recipes} and {@link Comment} to JSON, with the Jackson modules
+ * registered by {@link com.mycompany.myapp.config.JacksonConfiguration}.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=JacksonPageBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonPageBenchmark {
+
+    @Param({ "20", "100" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<Recipes> recipesPage;
+
+    private List<Comment> commentPage;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modules(new JavaTimeModule(), new Jdk8Module(), new Hibernate5Module()).build();
+        User user = new User();
+        user.setId(1L);
+        user.setLogin("chef");
+        user.setFirstName("Chef");
+        user.setLastName("Benchmark");
+        user.setEmail("chef@localhost");
+        user.setActivated(true);
+        user.setLangKey("en");
+        recipesPage = new ArrayList<>(size);
+        commentPage = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            Recipes recipes = new Recipes().recipesName("Recipe number " + i).user(user);
+            recipes.setId(i);
+            recipesPage.add(recipes);
+            Comment comment = new Comment().commentContent("A comment about the recipe number " + i + ", rather long to be realistic.");
+            comment.setId(i);
+            comment.setRecipes(recipes);
+            commentPage.add(comment);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeRecipesPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recipesPage);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(commentPage);
+    }
+}
@@ -1,13 +1,22 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Recipes;
+import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.RecipesRepository;
+import com.mycompany.myapp.repository.search.RecipesSearchRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -16,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -37,6 +47,8 @@ class RecipesResourceIT {
 
     private static final String ENTITY_API_URL = "/api/recipes";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+    private static final String ENTITY_BULK_API_URL = ENTITY_API_URL + "/_bulk";
+    private static final String ENTITY_SEARCH_API_URL = "/api/_search/recipes";
 
     private static Random random = new Random();
     private static AtomicLong count = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
@@ -44,6 +56,9 @@ class RecipesResourceIT {
     @Autowired
     private RecipesRepository recipesRepository;
 
+    @Autowired
+    private RecipesSearchRepository recipesSearchRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -81,6 +96,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void createRecipes() throws Exception {
         int databaseSizeBeforeCreate = recipesRepository.findAll().size();
         // Create the Recipes
@@ -97,6 +113,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void createRecipesWithExistingId() throws Exception {
         // Create the Recipes with an existing ID
         recipes.setId(1L);
@@ -113,6 +130,48 @@ class RecipesResourceIT {
         assertThat(recipesList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void createRecipesInBulk() throws Exception {
+        int databaseSizeBeforeCreate = recipesRepository.findAll().size();
+        List<Recipes> bulk = List.of(createEntity(em), createEntity(em).recipesName(UPDATED_RECIPES_NAME), createEntity(em));
+
+        restRecipesMockMvc
+            .perform(post(ENTITY_BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(bulk)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$.[*].index").value(contains(0, 1, 2)))
+            .andExpect(jsonPath("$.[*].status").value(contains(201, 201, 201)))
+            .andExpect(jsonPath("$.[1].id").isNumber());
+
+        // Validate the Recipes in the database
+        List<Recipes> recipesList = recipesRepository.findAll();
+        assertThat(recipesList).hasSize(databaseSizeBeforeCreate + 3);
+        assertThat(recipesList).extracting(Recipes::getRecipesName).contains(DEFAULT_RECIPES_NAME, UPDATED_RECIPES_NAME);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void createRecipesInBulkWithInvalidItem() throws Exception {
+        int databaseSizeBeforeCreate = recipesRepository.findAll().size();
+        List<Recipes> bulk = List.of(createEntity(em), createEntity(em).recipesName(null));
+
+        // A single invalid item rejects the whole request
+        restRecipesMockMvc
+            .perform(post(ENTITY_BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(bulk)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.validation"))
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items.[0].index").value(1))
+            .andExpect(jsonPath("$.items.[0].fieldErrors.[0].field").value("recipesName"))
+            .andExpect(jsonPath("$.items.[0].fieldErrors.[0].message").value("NotNull"));
+
+        List<Recipes> recipesList = recipesRepository.findAll();
+        assertThat(recipesList).hasSize(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void checkRecipesNameIsRequired() throws Exception {
@@ -145,6 +204,179 @@ class RecipesResourceIT {
             .andExpect(jsonPath("$.[*].recipesName").value(hasItem(DEFAULT_RECIPES_NAME)));
     }
 
+    @Test
+    @Transactional
+    void getAllRecipesWithFixedStatementCount() throws Throwable {
+        // Initialize the database with recipes of distinct authors, so that loading the authors one by one would show
+        for (int i = 0; i < 25; i++) {
+            User user = UserResourceIT.createEntity(em);
+            em.persist(user);
+            em.persist(createEntity(em).user(user));
+        }
+        em.flush();
+
+        for (int size : new int[] { 5, 20 }) {
+            em.clear();
+            // One query for the ETag fingerprint, one for the page, one for the total count
+            long statements = TestUtil.countStatements(
+                em,
+                () ->
+                    restRecipesMockMvc
+                        .perform(get(ENTITY_API_URL + "?size={size}&sort=user.login,asc", size))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(size))
+                        .andExpect(jsonPath("$.[*].user.login").value(everyItem(notNullValue())))
+            );
+            assertThat(statements).isEqualTo(3);
+
+            em.clear();
+            // One query for the ETag fingerprint, one for the keyset page, which is not counted
+            statements =
+                TestUtil.countStatements(
+                    em,
+                    () ->
+                        restRecipesMockMvc
+                            .perform(get(ENTITY_API_URL + "?after=&size={size}&sort=id,desc", size))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.length()").value(size))
+                );
+            assertThat(statements).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllRecipesWithETag() throws Throwable {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+
+        String eTag = restRecipesMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"recipes-list-");
+
+        // Only the fingerprint is read when nothing changed
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restRecipesMockMvc
+                    .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""))
+        );
+        assertThat(statements).isEqualTo(1);
+
+        // Update the recipes
+        Recipes updatedRecipes = recipesRepository.findById(recipes.getId()).get();
+        updatedRecipes.setRecipesName(UPDATED_RECIPES_NAME);
+        recipesRepository.saveAndFlush(updatedRecipes);
+
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.[*].recipesName").value(hasItem(UPDATED_RECIPES_NAME)));
+    }
+
+    @Test
+    @Transactional
+    void getAllRecipesWithETagOfTheAuthor() throws Throwable {
+        // Initialize the database
+        User user = UserResourceIT.createEntity(em);
+        em.persist(user);
+        recipesRepository.saveAndFlush(recipes.user(user));
+
+        String eTag = restRecipesMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Rename the author, whose login is in the summaries
+        user.setLogin("renamed-author");
+        em.flush();
+
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.[*].user.login").value(hasItem("renamed-author")));
+    }
+
+    @Test
+    @Transactional
+    void getRecipesWithETag() throws Throwable {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        String eTag = "\"recipes-" + recipes.getId() + "-" + recipes.getVersion() + "-0-0\"";
+
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL_ID, recipes.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // Only the version is read when nothing changed
+        em.clear();
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restRecipesMockMvc
+                    .perform(get(ENTITY_API_URL_ID, recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""))
+        );
+        assertThat(statements).isEqualTo(1);
+
+        // Update the recipes, which increments its version
+        Recipes updatedRecipes = recipesRepository.findById(recipes.getId()).get();
+        updatedRecipes.setRecipesName(UPDATED_RECIPES_NAME);
+        recipesRepository.saveAndFlush(updatedRecipes);
+
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL_ID, recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"recipes-" + recipes.getId() + "-" + updatedRecipes.getVersion() + "-0-0\""))
+            .andExpect(jsonPath("$.recipesName").value(UPDATED_RECIPES_NAME));
+    }
+
+    @Test
+    @Transactional
+    void getAllRecipesByCursor() throws Exception {
+        // Initialize the database
+        Recipes first = recipesRepository.saveAndFlush(createEntity(em));
+        Recipes second = recipesRepository.saveAndFlush(createEntity(em));
+        String cursor = KeysetPaginationUtil.encodeCursor(first.getId() - 1);
+
+        // Get the first keyset page, which links to the next one
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL + "?after={cursor}&size=1&sort=id,asc", cursor))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString(KeysetPaginationUtil.encodeCursor(first.getId()))))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue())));
+
+        // Seek past the last recipes: no more link
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL + "?after={cursor}&size=1", KeysetPaginationUtil.encodeCursor(second.getId())))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.LINK))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void getAllRecipesByInvalidCursor() throws Exception {
+        restRecipesMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+        restRecipesMockMvc.perform(get(ENTITY_API_URL + "?after=&sort=recipesName,asc")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getRecipes() throws Exception {
@@ -169,6 +401,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void putNewRecipes() throws Exception {
         // Initialize the database
         recipesRepository.saveAndFlush(recipes);
@@ -198,6 +431,138 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void putRecipesWithIfMatch() throws Throwable {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        Long version = recipes.getVersion();
+        em.detach(recipes);
+        recipes.recipesName(UPDATED_RECIPES_NAME);
+
+        // The update is a single versioned statement, the recipes is not read first, only the versions of its ETag
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restRecipesMockMvc
+                    .perform(
+                        put(ENTITY_API_URL_ID, recipes.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"recipes-" + recipes.getId() + "-" + version + "\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(TestUtil.convertObjectToJsonBytes(recipes))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"recipes-" + recipes.getId() + "-" + (version + 1) + "-0-0\""))
+                    .andExpect(jsonPath("$.version").value(version + 1))
+        );
+        assertThat(statements).isEqualTo(2);
+        assertThat(recipesRepository.findById(recipes.getId()).get().getRecipesName()).isEqualTo(UPDATED_RECIPES_NAME);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void putRecipesThenGetIsNotModified() throws Exception {
+        // Initialize the database with an author, whose last modified date is part of the ETag
+        User user = UserResourceIT.createEntity(em);
+        em.persist(user);
+        recipesRepository.saveAndFlush(recipes.user(user));
+        em.detach(recipes);
+        recipes.recipesName(UPDATED_RECIPES_NAME);
+
+        String eTag = restRecipesMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, recipes.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(recipes))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // The ETag of the update response is the one of the updated recipes
+        restRecipesMockMvc
+            .perform(get(ENTITY_API_URL_ID, recipes.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void putRecipesWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        String staleETag = "\"recipes-" + recipes.getId() + "-" + recipes.getVersion() + "\"";
+        recipesRepository.saveAndFlush(recipes.recipesName(UPDATED_RECIPES_NAME));
+        em.detach(recipes);
+        recipes.recipesName(DEFAULT_RECIPES_NAME);
+
+        restRecipesMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, recipes.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(recipes))
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value("error.concurrencyFailure"));
+
+        // Validate the Recipes in the database
+        assertThat(recipesRepository.findById(recipes.getId()).get().getRecipesName()).isEqualTo(UPDATED_RECIPES_NAME);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void putRecipesWithStaleVersion() throws Exception {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        Long staleVersion = recipes.getVersion();
+        recipesRepository.saveAndFlush(recipes.recipesName(UPDATED_RECIPES_NAME));
+        em.detach(recipes);
+        recipes.recipesName(DEFAULT_RECIPES_NAME).version(staleVersion);
+
+        // Without If-Match, the version in the body is checked
+        restRecipesMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, recipes.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(recipes))
+            )
+            .andExpect(status().isConflict());
+
+        // Validate the Recipes in the database
+        assertThat(recipesRepository.findById(recipes.getId()).get().getRecipesName()).isEqualTo(UPDATED_RECIPES_NAME);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void patchRecipesWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        String staleETag = "\"recipes-" + recipes.getId() + "-" + (recipes.getVersion() - 1) + "\"";
+
+        Recipes partialUpdatedRecipes = new Recipes();
+        partialUpdatedRecipes.setId(recipes.getId());
+        partialUpdatedRecipes.recipesName(UPDATED_RECIPES_NAME);
+
+        restRecipesMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedRecipes.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedRecipes))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        // Validate the Recipes in the database
+        assertThat(recipesRepository.findById(recipes.getId()).get().getRecipesName()).isEqualTo(DEFAULT_RECIPES_NAME);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void putNonExistingRecipes() throws Exception {
         int databaseSizeBeforeUpdate = recipesRepository.findAll().size();
         recipes.setId(count.incrementAndGet());
@@ -218,6 +583,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void putWithIdMismatchRecipes() throws Exception {
         int databaseSizeBeforeUpdate = recipesRepository.findAll().size();
         recipes.setId(count.incrementAndGet());
@@ -254,6 +620,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void partialUpdateRecipesWithPatch() throws Exception {
         // Initialize the database
         recipesRepository.saveAndFlush(recipes);
@@ -283,6 +650,44 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
+    void partialUpdateRecipesWithSingleUpdate() throws Throwable {
+        // Initialize the database
+        recipesRepository.saveAndFlush(recipes);
+        Long version = recipes.getVersion();
+        em.clear();
+
+        Recipes partialUpdatedRecipes = new Recipes();
+        partialUpdatedRecipes.setId(recipes.getId());
+        partialUpdatedRecipes.recipesName(UPDATED_RECIPES_NAME);
+
+        // One statement to update the column, one to read the recipes back, one to read the versions of its ETag
+        long statements = TestUtil.countStatements(
+            em,
+            () ->
+                restRecipesMockMvc
+                    .perform(
+                        patch(ENTITY_API_URL_ID, partialUpdatedRecipes.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"recipes-" + recipes.getId() + "-" + version + "\"")
+                            .contentType("application/merge-patch+json")
+                            .content(TestUtil.convertObjectToJsonBytes(partialUpdatedRecipes))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"recipes-" + recipes.getId() + "-" + (version + 1) + "-0-0\""))
+                    .andExpect(jsonPath("$.recipesName").value(UPDATED_RECIPES_NAME))
+                    .andExpect(jsonPath("$.version").value(version + 1))
+        );
+        assertThat(statements).isEqualTo(3);
+
+        // Validate the Recipes in the database
+        Recipes testRecipes = recipesRepository.findById(recipes.getId()).get();
+        assertThat(testRecipes.getRecipesName()).isEqualTo(UPDATED_RECIPES_NAME);
+        assertThat(testRecipes.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void fullUpdateRecipesWithPatch() throws Exception {
         // Initialize the database
         recipesRepository.saveAndFlush(recipes);
@@ -312,6 +717,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void patchNonExistingRecipes() throws Exception {
         int databaseSizeBeforeUpdate = recipesRepository.findAll().size();
         recipes.setId(count.incrementAndGet());
@@ -332,6 +738,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void patchWithIdMismatchRecipes() throws Exception {
         int databaseSizeBeforeUpdate = recipesRepository.findAll().size();
         recipes.setId(count.incrementAndGet());
@@ -368,6 +775,7 @@ class RecipesResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.CHEF)
     void deleteRecipes() throws Exception {
         // Initialize the database
         recipesRepository.saveAndFlush(recipes);
@@ -383,4 +791,38 @@ class RecipesResourceIT {
         List<Recipes> recipesList = recipesRepository.findAll();
         assertThat(recipesList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void searchRecipes() throws Exception {
+        // Initialize the database
+        recipes.setRecipesName("Tarte aux pommes");
+        recipesRepository.saveAndFlush(recipes);
+        recipesSearchRepository.index(recipes);
+
+        // Search the recipes
+        restRecipesMockMvc
+            .perform(get(ENTITY_SEARCH_API_URL + "?q=pommes"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(recipes.getId().intValue())))
+            .andExpect(jsonPath("$.[*].recipesName").value(hasItem("Tarte aux pommes")));
+    }
+
+    @Test
+    @Transactional
+    void searchRecipesIsRankedByRelevance() throws Exception {
+        // Initialize the database
+        Recipes lessRelevant = recipesRepository.saveAndFlush(createEntity(em).recipesName("Zucchini bread with walnuts and raisins"));
+        Recipes moreRelevant = recipesRepository.saveAndFlush(createEntity(em).recipesName("Zucchini zucchini"));
+        recipesSearchRepository.index(lessRelevant);
+        recipesSearchRepository.index(moreRelevant);
+
+        // Search the recipes
+        restRecipesMockMvc
+            .perform(get(ENTITY_SEARCH_API_URL + "?q=zucchini"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(moreRelevant.getId().intValue(), lessRelevant.getId().intValue())));
+    }
 }
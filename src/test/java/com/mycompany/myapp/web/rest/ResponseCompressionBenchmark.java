@@ -0,0 +1,101 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.service.dto.CommentDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the CPU time of writing a page of {@link CommentDTO} as a JSON response, with and without the
+ * gzip encoding applied by the server when {@code server.compression.enabled} is set, and the size in bytes of the
+ * response body, reported as the {@code writeCommentPage:bytes} secondary result.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark,-webapp test-compile exec:exec@run-benchmarks -Djmh.include=ResponseCompressionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseCompressionBenchmark {
+
+    private static final String[] WORDS = (
+        "fold the egg whites into batter in three additions without overmixing then bake until top springs back " +
+        "whisk butter sugar flour salt pepper onion garlic simmer stir gently for minutes over medium heat add cream " +
+        "season to taste serve warm with fresh herbs lemon zest olive oil roast chicken potatoes oven preheated"
+    ).split(" ");
+
+    @Param({ "identity", "gzip" })
+    private String encoding;
+
+    @Param({ "20", "100" })
+    private int size;
+
+    @Param({ "200", "2000" })
+    private int commentLength;
+
+    private ObjectMapper objectMapper;
+
+    private List<CommentDTO> commentPage;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modules(new JavaTimeModule(), new Jdk8Module(), new Hibernate5Module()).build();
+        // Comments of random words, which compress like real text rather than like a repeated sentence
+        Random random = new Random(42);
+        commentPage = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            StringBuilder content = new StringBuilder(commentLength + 16);
+            while (content.length() < commentLength) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? ". " : " ");
+            }
+            commentPage.add(new CommentDTO(i, content.toString(), 0L, i / 10, "Recipe number " + i / 10, 0L, 1L, "chef"));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeCommentPage(ResponseSize responseSize) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (OutputStream out = "gzip".equals(encoding) ? new GZIPOutputStream(body, 8192) : body) {
+            objectMapper.writeValue(out, commentPage);
+        }
+        responseSize.record(body.size());
+        return body.toByteArray();
+    }
+
+    /**
+     * Size of the response body, reported next to the time of the benchmark. JMH reports the {@code EVENTS} counters
+     * as is rather than per unit of time, unlike the {@code OPERATIONS} ones, but sums them over the measurement
+     * iterations and threads, so each of them holds its share of the size.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResponseSize {
+
+        public double bytes;
+
+        private int shares;
+
+        @Setup
+        public void setup(BenchmarkParams params) {
+            shares = params.getMeasurement().getCount() * params.getThreads();
+        }
+
+        void record(int size) {
+            bytes = (double) size / shares;
+        }
+    }
+}
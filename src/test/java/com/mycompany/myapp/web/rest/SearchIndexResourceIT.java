@@ -0,0 +1,78 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Comment;
+import com.mycompany.myapp.repository.CommentRepository;
+import com.mycompany.myapp.repository.search.CommentSearchRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link SearchIndexResource} REST controller.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+@IntegrationTest
+class SearchIndexResourceIT {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentSearchRepository commentSearchRepository;
+
+    @Autowired
+    private MockMvc restSearchIndexMockMvc;
+
+    @Test
+    @Transactional
+    void reindex() throws Exception {
+        Comment comment = commentRepository.saveAndFlush(new Comment().commentContent("A pinch of nutmeg"));
+
+        restSearchIndexMockMvc
+            .perform(post("/api/admin/_search/reindex"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comment").value(greaterThanOrEqualTo(1)));
+
+        restSearchIndexMockMvc
+            .perform(get("/api/_search/comments?q=nutmeg"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(comment.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void reindexRemovesTheDeletedEntities() throws Exception {
+        // A comment deleted while this instance didn't index it, e.g. by another instance
+        commentSearchRepository.index(new Comment().id(Long.MAX_VALUE).commentContent("A pinch of cumin"));
+        Comment comment = commentRepository.saveAndFlush(new Comment().commentContent("Cumin rice"));
+
+        restSearchIndexMockMvc.perform(post("/api/admin/_search/reindex")).andExpect(status().isOk());
+
+        restSearchIndexMockMvc
+            .perform(get("/api/_search/comments?q=cumin"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(comment.getId().intValue())))
+            .andExpect(header().string("X-Total-Count", "1"));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void reindexIsForbiddenForUsers() throws Exception {
+        restSearchIndexMockMvc.perform(post("/api/admin/_search/reindex")).andExpect(status().isForbidden());
+    }
+}
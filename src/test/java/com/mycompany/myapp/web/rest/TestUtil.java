@@ -19,6 +19,9 @@ import javax.persistence.criteria.Root;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.function.Executable;
 import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.format.support.FormattingConversionService;
@@ -202,5 +205,45 @@ public final class TestUtil {
         return allQuery.getResultList();
     }
 
+    /**
+     * Counts the SQL statements prepared while running an action, using the Hibernate statistics.
+     * @param em The instance of the EntityManager
+     * @param action The action to run
+     * @return The number of statements prepared by the action
+     * @throws Throwable if the action fails
+     */
+    public static long countStatements(EntityManager em, Executable action) throws Throwable {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean enabled = statistics.isStatisticsEnabled();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            action.execute();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(enabled);
+        }
+    }
+
+    /**
+     * Counts the transactions completed while running an action, using the Hibernate statistics.
+     * @param em The instance of the EntityManager
+     * @param action The action to run
+     * @return The number of transactions completed by the action
+     * @throws Throwable if the action fails
+     */
+    public static long countTransactions(EntityManager em, Executable action) throws Throwable {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean enabled = statistics.isStatisticsEnabled();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            action.execute();
+            return statistics.getTransactionCount();
+        } finally {
+            statistics.setStatisticsEnabled(enabled);
+        }
+    }
+
     private TestUtil() {}
 }
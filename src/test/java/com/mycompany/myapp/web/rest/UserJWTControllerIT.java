@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -16,7 +17,9 @@ import com.mycompany.myapp.web.rest.vm.LoginVM;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -84,6 +87,29 @@ class UserJWTControllerIT {
             .andExpect(header().string("Authorization", not(is(emptyString()))));
     }
 
+    @Test
+    @Transactional
+    void testAuthorizeUpgradesPasswordHash() throws Exception {
+        User user = new User();
+        user.setLogin("user-jwt-controller-legacy-hash");
+        user.setEmail("user-jwt-controller-legacy-hash@example.com");
+        user.setActivated(true);
+        user.setPassword(new BCryptPasswordEncoder(4).encode("test"));
+
+        userRepository.saveAndFlush(user);
+
+        LoginVM login = new LoginVM();
+        login.setUsername("user-jwt-controller-legacy-hash");
+        login.setPassword("test");
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .andExpect(status().isOk());
+
+        String upgradedPassword = userRepository.findOneByLogin("user-jwt-controller-legacy-hash").orElseThrow().getPassword();
+        assertThat(upgradedPassword).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.matches("test", upgradedPassword)).isTrue();
+    }
+
     @Test
     void testAuthorizeFails() throws Exception {
         LoginVM login = new LoginVM();
@@ -95,4 +121,40 @@ class UserJWTControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    void testAuthorizeIsRateLimitedPerLogin() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("rate-limited-user");
+        login.setPassword("wrong password");
+        byte[] content = TestUtil.convertObjectToJsonBytes(login);
+        for (int i = 0; i < 5; i++) {
+            String remoteAddress = "10.0.0." + i;
+            mockMvc
+                .perform(
+                    post("/api/authenticate")
+                        .with(request -> {
+                            request.setRemoteAddr(remoteAddress);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content)
+                )
+                .andExpect(status().isUnauthorized());
+        }
+        mockMvc
+            .perform(
+                post("/api/authenticate")
+                    .with(request -> {
+                        request.setRemoteAddr("10.0.0.5");
+                        return request;
+                    })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content)
+            )
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+            .andExpect(jsonPath("$.id_token").doesNotExist())
+            .andExpect(header().doesNotExist("Authorization"));
+    }
 }
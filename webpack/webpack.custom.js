@@ -1,4 +1,5 @@
 const webpack = require('webpack');
+const zlib = require('zlib');
 const { merge } = require('webpack-merge');
 const path = require('path');
 const { hashElement } = require('folder-hash');
@@ -12,6 +13,46 @@ const ESLintPlugin = require('eslint-webpack-plugin');
 const environment = require('./environment');
 const proxyConfig = require('./proxy.conf');
 
+/**
+ * Emits a brotli (.br) and a gzip (.gz) variant of each compressible asset, when it saves enough bytes.
+ */
+class PrecompressPlugin {
+  constructor({ test = /\.(js|css|svg|json|txt)$/, threshold = 1024, minRatio = 0.8 } = {}) {
+    this.test = test;
+    this.threshold = threshold;
+    this.minRatio = minRatio;
+    this.variants = [
+      { extension: '.br', compress: input => zlib.brotliCompressSync(input, { params: { [zlib.constants.BROTLI_PARAM_QUALITY]: 11 } }) },
+      { extension: '.gz', compress: input => zlib.gzipSync(input, { level: zlib.constants.Z_BEST_COMPRESSION }) },
+    ];
+  }
+
+  apply(compiler) {
+    compiler.hooks.thisCompilation.tap('PrecompressPlugin', compilation => {
+      compilation.hooks.processAssets.tap(
+        { name: 'PrecompressPlugin', stage: webpack.Compilation.PROCESS_ASSETS_STAGE_TRANSFER },
+        assets => {
+          for (const name of Object.keys(assets)) {
+            if (!this.test.test(name)) {
+              continue;
+            }
+            const input = compilation.getAsset(name).source.buffer();
+            if (input.length < this.threshold) {
+              continue;
+            }
+            for (const { extension, compress } of this.variants) {
+              const output = compress(input);
+              if (output.length / input.length <= this.minRatio) {
+                compilation.emitAsset(name + extension, new webpack.sources.RawSource(output), { compressed: true });
+              }
+            }
+          }
+        }
+      );
+    });
+  }
+}
+
 module.exports = async (config, options, targetOptions) => {
   const languagesHash = await hashElement(path.resolve(__dirname, '../src/main/webapp/i18n'), {
     algo: 'md5',
@@ -79,7 +120,9 @@ module.exports = async (config, options, targetOptions) => {
         openAnalyzer: false,
         // Webpack statistics in target folder
         reportFilename: '../stats.html',
-      })
+      }),
+      // Precompressed variants, served by StaticResourcesWebConfiguration to the browsers accepting them
+      new PrecompressPlugin()
     );
   }
 